@@ -0,0 +1,75 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.store.InMemoryTokenStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과 비용 (헤더 추출 → 검증 → 로그아웃 여부 확인 → SecurityContext 저장)을 측정합니다.
+ * invalid 시나리오는 형식이 잘못된 토큰이 들어왔을 때의 401 응답 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+
+    @Param({"valid", "expired", "garbage"})
+    private String scenario;
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private InMemoryTokenStore tokenStore;
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider issuer = new JwtTokenProvider(SECRET, "expired".equals(scenario) ? -60 : 1800, 1209600,
+                new VerifiedTokenCache(false, 0));
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 1209600,
+                new VerifiedTokenCache(cacheEnabled, 10_000));
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenStore);
+
+        AuthPrincipal principal = new AuthPrincipal(1L, "user@example.com", Role.USER);
+        String token = "garbage".equals(scenario)
+                ? "not.a-valid.token!"
+                : issuer.generateAccessToken(principal);
+        authorizationHeader = JwtAuthenticationFilter.BEARER_PREFIX + token;
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenStore.close();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        // OncePerRequestFilter 가 request attribute 로 중복 실행을 막으므로 매번 새 요청 사용
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
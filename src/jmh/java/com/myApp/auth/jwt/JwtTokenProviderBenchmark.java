@@ -0,0 +1,90 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 비용을 기존 방식(호출마다 파서 생성, jjwt 기본 Mac)과 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+    private static final String SESSION_ID = JwtTokenProvider.newSessionId();
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private AuthPrincipal principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // 캐시를 끄고 순수 검증 비용만 측정
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 1209600, new VerifiedTokenCache(false, 0));
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        principal = new AuthPrincipal(1L, "user@example.com", Role.USER);
+        accessToken = jwtTokenProvider.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Object getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Object verifyWithNewParser() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Object generateTokenDto() {
+        return jwtTokenProvider.generateTokenDto(principal, SESSION_ID, 0);
+    }
+
+    @Benchmark
+    public Object generateTokenPairWithDefaultMac() {
+        long now = new Date().getTime();
+        String access = Jwts.builder()
+                .subject("user@example.com")
+                .claim("auth", "ROLE_USER")
+                .expiration(new Date(now + 1800_000))
+                .signWith(key)
+                .compact();
+        String refresh = Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(new Date().getTime() + 1209600_000L))
+                .signWith(key)
+                .compact();
+        return new String[]{access, refresh};
+    }
+}
@@ -0,0 +1,112 @@
+package com.myApp.auth.repository;
+
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.domain.users.dto.UserResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 조회 한 번의 비용을 엔티티 조회(findById → UserResponseDto.from)와 DTO projection(findViewById)으로 비교합니다.
+ * 요청마다 영속성 컨텍스트가 새로 시작되는 것처럼 매 호출 후 EntityManager 를 비웁니다.
+ * 할당량은 gc profiler 의 gc.alloc.rate.norm 으로 비교합니다.
+ * 실행 중인 MySQL 의 벤치마크 전용 스키마가 필요합니다 (DB_URL, DB_USER, DB_PASSWORD 필수, 기본값 없음).
+ * 스키마는 만들거나 바꾸지 않고 엔티티와 일치하는지만 확인(validate)하므로, 애플리케이션으로 미리 생성해 두어야 합니다.
+ * 측정용 회원은 기동 시 추가하고 종료 시 삭제합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberQueryBenchmark {
+
+    private static final String EMAIL = "member-query-benchmark@example.com";
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private MemberRepository memberRepository;
+    private Long memberId;
+
+    @Setup
+    public void setUp() {
+        // 실수로 애플리케이션 DB 에 실행하지 않도록 접속 정보는 반드시 지정
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                requiredEnv("DB_URL"), requiredEnv("DB_USER"), requiredEnv("DB_PASSWORD"));
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.myApp.auth.entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "validate"));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        memberRepository = new JpaRepositoryFactory(entityManager).getRepository(MemberRepository.class);
+
+        entityManager.getTransaction().begin();
+        // 이전 실행이 중간에 종료되어 남은 회원은 지우고 새로 추가
+        memberRepository.findByEmail(EMAIL).ifPresent(memberRepository::delete);
+        entityManager.flush();
+        memberId = memberRepository.save(Member.builder()
+                        .name("benchmark")
+                        .email(EMAIL)
+                        .role(Role.USER)
+                        .socialId("member-query-benchmark")
+                        .socialType("google")
+                        .build())
+                .getId();
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        try {
+            entityManager.getTransaction().begin();
+            memberRepository.deleteById(memberId);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+            entityManagerFactoryBean.destroy();
+        }
+    }
+
+    private static String requiredEnv(String name) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(name + " 환경 변수가 필요합니다 (벤치마크 전용 스키마).");
+        }
+        return value;
+    }
+
+    // 기존: 엔티티 조회 (영속성 컨텍스트 등록 + 스냅샷 + 감사 필드)
+    @Benchmark
+    public UserResponseDto entity() {
+        UserResponseDto response = UserResponseDto.from(memberRepository.findById(memberId).orElseThrow());
+        entityManager.clear(); // 요청마다 새 영속성 컨텍스트
+        return response;
+    }
+
+    // DTO projection: 필요한 컬럼만 select
+    @Benchmark
+    public UserResponseDto projection() {
+        UserResponseDto response = UserResponseDto.from(memberRepository.findViewById(memberId).orElseThrow());
+        entityManager.clear();
+        return response;
+    }
+}
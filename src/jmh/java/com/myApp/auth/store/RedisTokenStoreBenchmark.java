@@ -0,0 +1,162 @@
+package com.myApp.auth.store;
+
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.redis.TokenBlacklist;
+import com.myApp.auth.repository.RefreshTokenRepository;
+import com.myApp.global.redis.RedisClientSideCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 저장/재발급/로그아웃의 Redis 처리 지연을 기존 방식(명령별 왕복)과 Lua 스크립트(한 번의 왕복)로 비교합니다.
+ * 실행 중인 Redis 가 필요합니다 (REDIS_HOST, REDIS_PORT, 기본값 localhost:6379).
+ * 기존 방식은 @RedisHash Repository 가 보내던 명령을 그대로 재현합니다.
+ * 블랙리스트/세션 조회는 client-side cache 사용 여부(clientSideCache)에 따라 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisTokenStoreBenchmark {
+
+    private static final String SUBJECT = "999999999";
+    private static final String SESSION_ID = "bench-session-id";
+    private static final String SESSION_KEY = RefreshTokenRepository.keyOf(SUBJECT, SESSION_ID);
+    private static final String LEGACY_SESSION_KEY = RefreshTokenRepository.legacyKeyOf(SUBJECT);
+    private static final String REFRESH_TOKEN = "refresh-token";
+    private static final RefreshSession SESSION = new RefreshSession(SESSION_ID, REFRESH_TOKEN, Role.USER, 0);
+
+    @Param({"false", "true"})
+    private boolean clientSideCache;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisClientSideCache redisClientSideCache;
+    private TokenBlacklist tokenBlacklist;
+    private RefreshTokenRepository refreshTokenRepository;
+    private RedisTokenStore tokenStore;
+    private VerifiedToken accessToken;
+    private VerifiedToken refreshToken;
+    private TokenDto issued;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        redisClientSideCache = new RedisClientSideCache(connectionFactory, redisTemplate, new SimpleMeterRegistry(),
+                clientSideCache, 10_000, Duration.ofMinutes(10), List.of("blacklist:", "refresh:"));
+        tokenBlacklist = new TokenBlacklist(redisTemplate, redisClientSideCache,
+                new SimpleMeterRegistry(), 1800, 10_000, 0.01, false);
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate, redisClientSideCache, 1209600, 5, 5, "migrate");
+        tokenStore = new RedisTokenStore(refreshTokenRepository, tokenBlacklist, redisTemplate);
+
+        accessToken = VerifiedToken.builder()
+                .subject(SUBJECT)
+                .sessionId(SESSION_ID)
+                .revocationId("bench-revocation-id")
+                .expiration(System.currentTimeMillis() + 1_800_000)
+                .build();
+        // 같은 토큰으로 계속 교체하여 매 호출이 교체 경로를 타도록 함
+        refreshToken = VerifiedToken.builder()
+                .token(REFRESH_TOKEN)
+                .subject(SUBJECT)
+                .sessionId(SESSION_ID)
+                .revocationId("bench-refresh-id")
+                .build();
+        issued = TokenDto.builder()
+                .accessToken("access-token")
+                .refreshToken(REFRESH_TOKEN)
+                .accessTokenExpiresIn(System.currentTimeMillis() + 1_800_000)
+                .build();
+        refreshTokenRepository.save(SUBJECT, SESSION);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisTemplate.delete(List.of(SESSION_KEY, RefreshTokenRepository.sessionsKeyOf(SUBJECT), LEGACY_SESSION_KEY,
+                "refreshToken", LEGACY_SESSION_KEY + ":idx",
+                "refreshToken:token:" + REFRESH_TOKEN, RefreshTokenRepository.graceKeyOf(SUBJECT, "bench-refresh-id"),
+                "blacklist:bench-revocation-id"));
+        redisClientSideCache.close();
+        connectionFactory.destroy();
+    }
+
+    // 기존 @RedisHash save: DEL -> HMSET(_class, id, token) -> SADD 키 집합 -> EXPIRE -> 인덱스 SADD 2회 (6 왕복)
+    @Benchmark
+    public void saveLegacyRedisHash() {
+        redisTemplate.delete(LEGACY_SESSION_KEY);
+        redisTemplate.opsForHash().putAll(LEGACY_SESSION_KEY,
+                Map.of("_class", "com.myApp.auth.redis.RefreshToken", "id", SUBJECT, "token", REFRESH_TOKEN));
+        redisTemplate.opsForSet().add("refreshToken", SUBJECT);
+        redisTemplate.expire(LEGACY_SESSION_KEY, 1209600, TimeUnit.SECONDS);
+        redisTemplate.opsForSet().add("refreshToken:token:" + REFRESH_TOKEN, SUBJECT);
+        redisTemplate.opsForSet().add(LEGACY_SESSION_KEY + ":idx", "refreshToken:token:" + REFRESH_TOKEN);
+    }
+
+    // 현재: save-refresh-token.lua 1 왕복
+    @Benchmark
+    public void save() {
+        refreshTokenRepository.save(SUBJECT, SESSION);
+    }
+
+    // Bloom filter 가 "있을 수도 있음"을 답한 토큰의 블랙리스트 확인 (복원 전이라 매번 이 경로를 탐)
+    @Benchmark
+    public boolean blacklistLookup() {
+        return tokenBlacklist.isRevoked(accessToken);
+    }
+
+    // 재발급 시 세션 조회 (교체하지 않으므로 client-side cache 사용 시 계속 적중)
+    @Benchmark
+    public Object findSession() {
+        return refreshTokenRepository.findSession(SUBJECT, SESSION_ID);
+    }
+
+    // 기존: findById(HGETALL) -> save(HSET + EXPIRE), 비교와 교체 사이에 다른 요청이 끼어들 수 있음
+    @Benchmark
+    public Object reissueMultiCall() {
+        Object stored = redisTemplate.opsForHash().entries(SESSION_KEY).get("token");
+        redisTemplate.opsForHash().put(SESSION_KEY, "token", REFRESH_TOKEN);
+        redisTemplate.expire(SESSION_KEY, 1209600, TimeUnit.SECONDS);
+        return stored;
+    }
+
+    @Benchmark
+    public Object reissueScript() {
+        return tokenStore.rotateRefreshToken(refreshToken, SUBJECT, SESSION, issued, 0);
+    }
+
+    // 기존: findById(HGETALL) -> deleteById(DEL) -> blacklist SET -> PUBLISH
+    @Benchmark
+    public void logoutMultiCall() {
+        redisTemplate.opsForHash().entries(SESSION_KEY);
+        redisTemplate.delete(SESSION_KEY);
+        redisTemplate.opsForValue().set("blacklist:bench-revocation-id", "logout", 1_800_000, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(TokenBlacklist.CHANNEL, "bench-revocation-id");
+    }
+
+    @Benchmark
+    public void logoutScript() {
+        tokenStore.logout(accessToken);
+    }
+}
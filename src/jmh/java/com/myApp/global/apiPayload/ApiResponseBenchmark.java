@@ -0,0 +1,68 @@
+package com.myApp.global.apiPayload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.myApp.auth.entity.Role;
+import com.myApp.domain.users.dto.UserResponseDto;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
+import com.myApp.global.apiPayload.code.status.GeneralSuccessCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 본문 직렬화 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserResponseDto user;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        user = UserResponseDto.builder()
+                .id(1L)
+                .name("Test User")
+                .email("test@example.com")
+                .role(Role.USER)
+                .socialType("google")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] successBody() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.onSuccess(GeneralSuccessCode._OK, user).getBody());
+    }
+
+    @Benchmark
+    public byte[] failureBody() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.createFailureBody(AuthErrorCode.AUTH_TOKEN_INVALID));
+    }
+
+    @Benchmark
+    public Object failureBodyPreEncoded() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorResponseWriter.write(response, AuthErrorCode.AUTH_TOKEN_INVALID);
+        return response;
+    }
+
+    // 기존 보안 필터처럼 매번 ObjectMapper 를 생성하는 경우
+    @Benchmark
+    public String failureBodyWithNewObjectMapper() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        return mapper.writeValueAsString(ApiResponse.createFailureBody(AuthErrorCode.AUTH_TOKEN_INVALID));
+    }
+}
@@ -0,0 +1,176 @@
+package com.myApp.global.config;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.handler.OAuth2SuccessHandler;
+import com.myApp.auth.jwt.JwtAuthenticationFilter;
+import com.myApp.auth.jwt.JwtTokenProvider;
+import com.myApp.auth.jwt.VerifiedTokenCache;
+import com.myApp.auth.service.CustomOAuth2UserService;
+import com.myApp.auth.store.InMemoryTokenStore;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.global.apiPayload.ErrorResponseWriter;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.oauth2.client.CommonOAuth2Provider;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.AbstractSecurityWebApplicationInitializer;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 Spring Security 필터 체인(FilterChainProxy)을 통과하는 비용을 측정합니다.
+ * single 은 분리 전의 단일 체인(모든 경로에 OAuth2 로그인 + JWT 필터), split 은 현재 {@link SecurityConfig} 입니다.
+ * 컨트롤러는 실행하지 않으므로 DB/Redis 없이 실행되며, 할당량은 gc profiler 의 gc.alloc.rate.norm 으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final String SECRET = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+
+    @Param({"single", "split"})
+    private String chains;
+
+    @Param({"/api/v1/users/me", "/swagger-ui/index.html"})
+    private String path;
+
+    private AnnotationConfigWebApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.jwt.access-token-validity-in-seconds", "1800",
+                "spring.jwt.refresh-token-validity-in-seconds", "1209600",
+                "spring.oauth2.redirect-url", "http://localhost:3000")));
+        context.register(SecurityBeans.class, "single".equals(chains) ? SingleChainConfig.class : SecurityConfig.class);
+        context.refresh();
+
+        springSecurityFilterChain = context.getBean(
+                AbstractSecurityWebApplicationInitializer.DEFAULT_FILTER_NAME, Filter.class);
+        authorizationHeader = JwtAuthenticationFilter.BEARER_PREFIX + context.getBean(JwtTokenProvider.class)
+                .generateAccessToken(new AuthPrincipal(1L, null, Role.USER));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        springSecurityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // SecurityConfig 가 의존하는 빈 (OAuth2 로그인 처리는 실행되지 않으므로 회원 저장소는 없음)
+    @Configuration
+    @EnableWebMvc
+    static class SecurityBeans {
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider(SECRET, 1800, 1209600, new VerifiedTokenCache(true, 10_000));
+        }
+
+        @Bean(destroyMethod = "close")
+        InMemoryTokenStore tokenStore() {
+            return new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        }
+
+        @Bean
+        CustomOAuth2UserService customOAuth2UserService() {
+            return new CustomOAuth2UserService(null, event -> {
+            });
+        }
+
+        @Bean
+        OAuth2SuccessHandler oAuth2SuccessHandler(JwtTokenProvider jwtTokenProvider, TokenStore tokenStore) {
+            return new OAuth2SuccessHandler(jwtTokenProvider, tokenStore);
+        }
+
+        @Bean
+        ClientRegistrationRepository clientRegistrationRepository() {
+            return new InMemoryClientRegistrationRepository(CommonOAuth2Provider.GOOGLE.getBuilder("google")
+                    .clientId("benchmark")
+                    .clientSecret("benchmark")
+                    .build());
+        }
+    }
+
+    // 체인 분리 전 SecurityConfig (인증 실패 응답과 필터의 로그아웃 여부 확인만 현재 방식으로 맞춤)
+    @Configuration
+    @EnableWebSecurity
+    static class SingleChainConfig {
+
+        @Bean
+        SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider, TokenStore tokenStore,
+                CustomOAuth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler)
+                throws Exception {
+            http
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .formLogin(AbstractHttpConfigurer::disable)
+                    .httpBasic(AbstractHttpConfigurer::disable)
+                    .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                    .authorizeHttpRequests(auth -> auth
+                            .requestMatchers("/", "/css/**", "/images/**", "/js/**", "/favicon.ico", "/h2-console/**")
+                            .permitAll()
+                            .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                            .requestMatchers("/api/v1/auth/**", "/oauth2/**", "/login/oauth2/**").permitAll()
+                            .requestMatchers("/api/v1/s3/**").permitAll()
+                            .anyRequest().authenticated())
+
+                    .exceptionHandling(exception -> exception
+                            .authenticationEntryPoint((request, response, authException) ->
+                                    ErrorResponseWriter.write(response, AuthErrorCode.UNAUTHORIZED)))
+
+                    .oauth2Login(oauth2 -> oauth2
+                            .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
+                            .successHandler(oAuth2SuccessHandler))
+
+                    .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenStore),
+                            UsernamePasswordAuthenticationFilter.class);
+
+            return http.build();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.myApp.auth.controller;
 
 import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.jwt.VerifiedToken;
 import com.myApp.auth.service.AuthService;
 import com.myApp.global.apiPayload.ApiResponse;
 import com.myApp.global.apiPayload.code.status.GeneralSuccessCode;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -37,9 +39,16 @@ public class AuthController implements AuthControllerDocs {
     @PostMapping("/logout")
     public ApiResponse<String> logout(@RequestHeader("Authorization") String accessToken,
             @CookieValue("refresh_token") String refreshToken,
+            HttpServletRequest request,
             HttpServletResponse response) {
 
-        authService.logout(accessToken, refreshToken);
+        // JwtAuthenticationFilter 에서 검증된 토큰이 있으면 재사용
+        VerifiedToken verifiedToken = VerifiedToken.from(request);
+        if (verifiedToken != null) {
+            authService.logout(verifiedToken, refreshToken);
+        } else {
+            authService.logout(accessToken, refreshToken);
+        }
 
         // 쿠키 삭제 (빈 값으로 덮어쓰기)
         ResponseCookie cookie = ResponseCookie.from("refresh_token", "")
@@ -5,6 +5,7 @@ import com.myApp.global.apiPayload.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -22,5 +23,6 @@ public interface AuthControllerDocs {
         ApiResponse<String> logout(
                         @Parameter(description = "Access Token", required = true) @RequestHeader("Authorization") String accessToken,
                         @Parameter(description = "Refresh Token (HttpOnly Cookie)", required = true) @CookieValue("refresh_token") String refreshToken,
+                        HttpServletRequest request,
                         HttpServletResponse response);
 }
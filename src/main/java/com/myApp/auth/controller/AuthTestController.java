@@ -1,12 +1,13 @@
 package com.myApp.auth.controller;
 
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.dto.RefreshSession;
 import com.myApp.auth.dto.TokenDto;
 import com.myApp.auth.jwt.JwtTokenProvider;
-import com.myApp.auth.redis.RefreshToken;
-import com.myApp.auth.repository.RefreshTokenRepository;
 import com.myApp.auth.entity.Member;
 import com.myApp.auth.repository.MemberRepository;
 import com.myApp.auth.entity.Role;
+import com.myApp.auth.store.TokenStore;
 import com.myApp.global.apiPayload.ApiResponse;
 import com.myApp.global.apiPayload.code.status.GeneralSuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,16 +15,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Collections;
-
 @RestController
 @RequestMapping("/api/v1/auth/test")
 @RequiredArgsConstructor
@@ -31,7 +27,7 @@ import java.util.Collections;
 public class AuthTestController {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenStore tokenStore;
     private final MemberRepository memberRepository;
 
     @Operation(summary = "Dev용 로그인 (토큰 발급)", description = "개발 환경에서 OAuth2 로그인 없이 토큰을 발급받습니다.")
@@ -47,21 +43,16 @@ public class AuthTestController {
                         .socialId("dev_" + email)
                         .build()));
 
-        // 2. Authentication 객체 생성
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                member.getEmail(),
-                null,
-                Collections.singleton(new SimpleGrantedAuthority(member.getRoleKey())));
+        // 2. Principal 생성
+        AuthPrincipal principal = AuthPrincipal.of(member);
 
         // 3. 토큰 생성
-        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication);
+        String sessionId = JwtTokenProvider.newSessionId();
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principal, sessionId, member.getAuthVersion());
 
         // 4. Refresh Token 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-                .id(member.getEmail())
-                .token(tokenDto.getRefreshToken())
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        tokenStore.saveRefreshSession(principal.getUsername(), new RefreshSession(
+                sessionId, tokenDto.getRefreshToken(), member.getRole(), member.getAuthVersion()));
 
         // 5. 쿠키 설정
         ResponseCookie cookie = ResponseCookie.from("refresh_token", tokenDto.getRefreshToken())
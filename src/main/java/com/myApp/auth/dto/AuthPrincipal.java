@@ -0,0 +1,91 @@
+package com.myApp.auth.dto;
+
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.GrantedAuthorities;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * JWT 로 인증된 사용자를 나타내는 불변 Principal 입니다.
+ * 비밀번호, 계정 상태 필드가 없는 가벼운 {@link UserDetails} 구현으로, @AuthUser 로 주입받아 사용합니다.
+ *
+ * <p>현재 형식의 토큰은 member id 와 권한만 담고 있으므로 email 은 null 입니다.
+ * 이전 형식(email subject) 토큰으로 인증된 경우에는 id, role 이 null 입니다.
+ */
+@Getter
+@EqualsAndHashCode(of = "username")
+public class AuthPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final String username; // 토큰 subject (member id, 이전 형식은 email)
+    private final List<GrantedAuthority> authorities;
+
+    private AuthPrincipal(Long id, String email, Role role, String username, List<GrantedAuthority> authorities) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.username = username;
+        this.authorities = authorities;
+    }
+
+    public AuthPrincipal(Long id, String email, Role role) {
+        this(id, email, role, String.valueOf(id), GrantedAuthorities.of(role));
+    }
+
+    public static AuthPrincipal of(Member member) {
+        return new AuthPrincipal(member.getId(), member.getEmail(), member.getRole());
+    }
+
+    public static AuthPrincipal of(MemberView member) {
+        return new AuthPrincipal(member.id(), member.email(), member.role());
+    }
+
+    // 이전 형식 토큰 (email subject + auth 클레임)
+    public static AuthPrincipal legacy(String email, List<GrantedAuthority> authorities) {
+        return new AuthPrincipal(null, email, null, email, authorities);
+    }
+
+    public static AuthPrincipal from(UserDetails userDetails) {
+        if (userDetails instanceof AuthPrincipal authPrincipal) {
+            return authPrincipal;
+        }
+        return legacy(userDetails.getUsername(), List.copyOf(userDetails.getAuthorities()));
+    }
+
+    @Override
+    public String getPassword() {
+        return ""; // 소셜로그인만 구현
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,11 @@
+package com.myApp.auth.dto;
+
+import com.myApp.auth.entity.Role;
+
+/**
+ * 조회 전용 회원 정보입니다 (MemberRepository 의 DTO projection).
+ * 필요한 컬럼만 select 하므로 엔티티를 영속성 컨텍스트에 올리지 않고, dirty checking 스냅샷과 감사(BaseEntity) 필드도 만들지 않습니다.
+ * 변경이 필요한 경우에는 {@code Member} 엔티티를 조회해야 합니다.
+ */
+public record MemberView(Long id, String name, String email, Role role, String socialType) {
+}
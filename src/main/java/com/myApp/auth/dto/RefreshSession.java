@@ -0,0 +1,24 @@
+package com.myApp.auth.dto;
+
+import com.myApp.auth.entity.Role;
+
+/**
+ * 저장된 Refresh Token 세션입니다. 회원마다 로그인한 기기 수만큼 있습니다.
+ * 재발급 시 DB 조회 없이 Access Token 을 만들 수 있도록 권한과 회원 권한 버전을 함께 보관합니다.
+ *
+ * @param sessionId 기기별 세션 ID (토큰의 sid 클레임), sid 를 넣기 전에 발급된 토큰의 세션이면 null
+ * @param role      권한, 권한을 저장하기 전에 만들어진 세션이면 null (재발급 시 DB 에서 조회)
+ * @param version   저장 시점의 {@code Member.authVersion}
+ * @param checkedAt 권한/버전을 DB 에서 마지막으로 확인한 시각 (epoch ms, 확인한 적이 없으면 0)
+ *                  교체할 세션이면 {@link #KEEP_CHECKED_AT} 으로 저장된 시각을 유지할 수 있음
+ */
+public record RefreshSession(String sessionId, String token, Role role, long version, long checkedAt) {
+
+    // 교체 시 저장된 확인 시각을 그대로 유지 (Refresh Token 클레임의 권한으로 재발급한 경우)
+    public static final long KEEP_CHECKED_AT = 0;
+
+    // DB 에서 방금 조회한 권한으로 만드는 세션 (로그인 시)
+    public RefreshSession(String sessionId, String token, Role role, long version) {
+        this(sessionId, token, role, version, System.currentTimeMillis());
+    }
+}
@@ -6,13 +6,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        // 소셜 로그인 제공자의 회원 식별자, 로그인 시 upsert 기준 (MemberRepository#upsertSocialMember)
+        @UniqueConstraint(name = "uk_users_social", columnNames = {"social_type", "social_id"})
+})
 public class Member extends BaseEntity {
 
     @Id
@@ -35,11 +39,25 @@ public class Member extends BaseEntity {
     @Column(nullable = false)
     private String socialType; // google, kakao, naver
 
+    // 권한이 바뀔 때마다 증가, Refresh Token 세션에 저장된 권한이 최신인지 판단하는 데 사용
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long authVersion = 0;
+
     public Member update(String name) {
         this.name = name;
         return this;
     }
 
+    public Member changeRole(Role role) {
+        if (this.role != role) {
+            this.role = role;
+            this.authVersion++;
+        }
+        return this;
+    }
+
     public String getRoleKey() {
         return this.role.getKey();
     }
@@ -6,8 +6,28 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum Role {
-    USER("ROLE_USER"),
-    ADMIN("ROLE_ADMIN");
+    USER("ROLE_USER", "U"),
+    ADMIN("ROLE_ADMIN", "A");
 
     private final String key;
+    private final String code; // 토큰 rl 클레임에 쓰는 짧은 코드
+
+    public static Role fromCode(String code) {
+        for (Role role : values()) {
+            if (role.code.equals(code)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 권한 코드입니다: " + code);
+    }
+
+    // ROLE_USER / USER 두 형태 모두 허용
+    public static Role fromKey(String key) {
+        for (Role role : values()) {
+            if (role.key.equals(key) || role.name().equals(key)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 권한입니다: " + key);
+    }
 }
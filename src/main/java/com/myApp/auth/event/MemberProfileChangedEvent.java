@@ -0,0 +1,8 @@
+package com.myApp.auth.event;
+
+/**
+ * 회원 프로필(이름 등)이 바뀌었을 때 발행하는 이벤트입니다.
+ * 커밋 후 캐시된 회원 프로필을 모든 노드에서 지우는 데 사용합니다.
+ */
+public record MemberProfileChangedEvent(Long memberId) {
+}
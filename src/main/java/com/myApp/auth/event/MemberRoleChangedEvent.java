@@ -0,0 +1,12 @@
+package com.myApp.auth.event;
+
+import com.myApp.auth.entity.Role;
+
+/**
+ * 회원 권한이 바뀌었을 때 발행하는 이벤트입니다.
+ * 트랜잭션 커밋 후 Refresh Token 세션에 저장된 권한을 갱신하는 데 사용합니다.
+ *
+ * @param authVersion 변경 후 {@code Member.authVersion}
+ */
+public record MemberRoleChangedEvent(Long memberId, Role role, long authVersion) {
+}
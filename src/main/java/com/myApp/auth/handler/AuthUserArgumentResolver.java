@@ -1,22 +1,29 @@
 package com.myApp.auth.handler;
 
 import com.myApp.auth.annotation.AuthUser;
-import com.myApp.global.apiPayload.code.status.AuthErrorCode;
-import com.myApp.global.apiPayload.exception.GeneralException;
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.service.CurrentMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.MethodParameter;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * {@link AuthUser} 파라미터를 현재 로그인 회원으로 채웁니다.
+ * AuthPrincipal(UserDetails)은 토큰 정보만으로 만들고, Member/CurrentMember 는 요청당 한 번만 조회하는 {@link CurrentMember} 를 사용합니다.
+ */
 @Component
+@RequiredArgsConstructor
 public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private final ObjectProvider<CurrentMember> currentMember;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(AuthUser.class);
@@ -26,21 +33,20 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 인증되지 않은 요청이면 Member 조회 전에 예외 발생
+        AuthPrincipal principal = CurrentMember.currentPrincipal();
 
-        // 인증 정보가 없거나 익명 사용자인 경우 예외 발생
-        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
-                || !authentication.isAuthenticated()) {
-            throw new GeneralException(AuthErrorCode.UNAUTHORIZED);
+        Class<?> type = parameter.getParameterType();
+        if (type == CurrentMember.class) {
+            return currentMember.getObject();
         }
-
-        Object principal = authentication.getPrincipal();
-
-        // Principal이 UserDetails 타입인지 확인
-        if (!(principal instanceof UserDetails)) {
-            throw new GeneralException(AuthErrorCode.UNAUTHORIZED);
+        if (type == Member.class) {
+            return currentMember.getObject().get();
         }
-
-        return principal;
+        if (type.isAssignableFrom(AuthPrincipal.class)) {
+            return principal;
+        }
+        // AuthPrincipal 이 아닌 UserDetails 구현 타입으로 받는 경우
+        return SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
 }
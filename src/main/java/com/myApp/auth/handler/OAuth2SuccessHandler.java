@@ -1,9 +1,15 @@
 package com.myApp.auth.handler;
 
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.dto.RefreshSession;
 import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
 import com.myApp.auth.jwt.JwtTokenProvider;
-import com.myApp.auth.redis.RefreshToken;
-import com.myApp.auth.repository.RefreshTokenRepository;
+import com.myApp.auth.service.CustomOAuth2UserService;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.global.apiPayload.ErrorResponseWriter;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
+import com.myApp.global.apiPayload.exception.GeneralException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.http.ResponseCookie;
@@ -24,7 +31,7 @@ import java.io.IOException;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
         private final JwtTokenProvider jwtTokenProvider;
-        private final RefreshTokenRepository refreshTokenRepository;
+        private final TokenStore tokenStore;
 
         @Value("${spring.jwt.access-token-validity-in-seconds}")
         private long accessTokenValidityInSeconds;
@@ -39,11 +46,23 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                         Authentication authentication) throws IOException, ServletException {
 
-                // 1. 토큰 생성
-                TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication);
-
-                // 2. Refresh Token 저장
-                saveRefreshToken(authentication, tokenDto);
+                // 1. 토큰 생성 (로그인한 기기마다 새 세션)
+                OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
+                AuthPrincipal principal;
+                try {
+                        principal = toPrincipal(oAuth2User);
+                } catch (GeneralException e) {
+                        log.warn("소셜 로그인 회원 정보 확인 실패: {}", e.getCode().getCode());
+                        ErrorResponseWriter.write(response, e.getCode());
+                        return;
+                }
+                String sessionId = JwtTokenProvider.newSessionId();
+                long authVersion = authVersionOf(oAuth2User);
+                TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principal, sessionId, authVersion);
+
+                // 2. Refresh Token 저장 (재발급 시 DB 조회가 필요 없도록 권한도 함께 저장)
+                // 다른 기기의 세션은 유지하고, 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션이 삭제됨
+                saveRefreshToken(principal, sessionId, authVersion, tokenDto);
 
                 // 3. Refresh Token을 HttpOnly Cookie로 설정
                 setRefreshTokenCookie(response, tokenDto);
@@ -52,14 +71,29 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
                 getRedirectStrategy().sendRedirect(request, response, redirectUrl);
         }
 
-        private void saveRefreshToken(Authentication authentication, TokenDto tokenDto) {
+        // CustomOAuth2UserService 에서 넣어 둔 member id, email, 권한으로 Principal 생성
+        // CustomOAuth2UserService 를 거치지 않은 OAuth2User 면 OAUTH2_MEMBER_NOT_FOUND
+        private AuthPrincipal toPrincipal(OAuth2User oAuth2User) {
+                Object memberId = oAuth2User.getAttributes().get(CustomOAuth2UserService.MEMBER_ID_ATTRIBUTE);
+                if (!(memberId instanceof Number) || oAuth2User.getAuthorities().isEmpty()) {
+                        throw new GeneralException(AuthErrorCode.OAUTH2_MEMBER_NOT_FOUND);
+                }
+                String authority = oAuth2User.getAuthorities().iterator().next().getAuthority();
+
+                return new AuthPrincipal(((Number) memberId).longValue(), oAuth2User.getAttribute("email"),
+                                Role.fromKey(authority));
+        }
 
-                RefreshToken refreshToken = RefreshToken.builder()
-                                .id(authentication.getName())
-                                .token(tokenDto.getRefreshToken())
-                                .build();
+        private long authVersionOf(OAuth2User oAuth2User) {
+                Object authVersion = oAuth2User.getAttributes().get(CustomOAuth2UserService.AUTH_VERSION_ATTRIBUTE);
+                return authVersion != null ? ((Number) authVersion).longValue() : 0;
+        }
 
-                refreshTokenRepository.save(refreshToken);
+        private void saveRefreshToken(AuthPrincipal principal, String sessionId, long authVersion,
+                        TokenDto tokenDto) {
+                tokenStore.saveRefreshSession(principal.getUsername(), // member id
+                                new RefreshSession(sessionId, tokenDto.getRefreshToken(), principal.getRole(),
+                                                authVersion));
         }
 
         private void setRefreshTokenCookie(HttpServletResponse response, TokenDto tokenDto) {
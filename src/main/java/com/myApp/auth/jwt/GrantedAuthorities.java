@@ -0,0 +1,49 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * auth 클레임 문자열을 공유 불변 권한 목록으로 변환합니다.
+ * 권한 종류는 {@link Role} 몇 개뿐이므로 미리 만들어 둔 목록을 재사용하고, 요청마다 새로 생성하지 않습니다.
+ */
+public final class GrantedAuthorities {
+
+    private static final Map<String, List<GrantedAuthority>> CANONICAL = new HashMap<>();
+
+    static {
+        for (Role role : Role.values()) {
+            // ROLE_USER (OAuth2 로그인) 와 USER (UserDetailsService) 두 형태 모두 등록
+            CANONICAL.put(role.getKey(), List.of(new SimpleGrantedAuthority(role.getKey())));
+            CANONICAL.put(role.name(), List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
+    private GrantedAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(String authorityClaim) {
+        List<GrantedAuthority> canonical = CANONICAL.get(authorityClaim);
+        if (canonical != null) {
+            return canonical;
+        }
+
+        // 여러 권한이 합쳐진 경우 등 드문 경우에만 새로 생성
+        return Arrays.stream(authorityClaim.split(","))
+                .map(authority -> {
+                    List<GrantedAuthority> single = CANONICAL.get(authority);
+                    return single != null ? single.get(0) : new SimpleGrantedAuthority(authority);
+                })
+                .toList();
+    }
+
+    public static List<GrantedAuthority> of(Role role) {
+        return CANONICAL.get(role.getKey());
+    }
+}
@@ -0,0 +1,66 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 검증된 JWT 로 만든 Authentication 입니다.
+ * 캐시된 토큰의 요청 간에는 불변 {@link AuthPrincipal} 만 공유하고, 이 객체는 요청마다 새로 만듭니다.
+ * 인증 해제({@code setAuthenticated(false)})는 해당 요청에만 반영됩니다.
+ */
+public class JwtAuthentication implements Authentication {
+
+    private final AuthPrincipal principal;
+    private volatile boolean authenticated = true;
+
+    public JwtAuthentication(AuthPrincipal principal) {
+        this.principal = principal;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public AuthPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    // AbstractAuthenticationToken 과 같이 인증 해제만 허용 (인증 여부는 토큰 검증으로만 결정)
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthentication 은 토큰 검증으로만 인증할 수 있습니다.");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[" + principal.getUsername() + ", " + principal.getAuthorities() + "]";
+    }
+}
@@ -1,7 +1,8 @@
 package com.myApp.auth.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.myApp.global.apiPayload.ApiResponse;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.global.apiPayload.ErrorResponseWriter;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenStore tokenStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,28 +35,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Request Header 에서 토큰을 꺼냄
             String jwt = resolveToken(request);
 
-            // 2. validateToken 으로 토큰 유효성 검사
-            // 정상 토큰이면 해당 토큰으로 Authentication 을 가져와서 SecurityContext 에 저장
+            // 2. verify 로 토큰 유효성 검사 (요청당 한 번만 파싱) 후 무효화 여부 확인
+            // 정상 토큰이면 검증 결과를 request 에 보관하고 Authentication 을 SecurityContext 에 저장
             if (StringUtils.hasText(jwt)) {
-                jwtTokenProvider.validateToken(jwt);
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+                // 구조가 잘못된 토큰은 서명 검증 없이 바로 거절 (예외/스택 트레이스 없음)
+                TokenPrecheck precheck = jwtTokenProvider.precheck(jwt);
+                if (precheck != TokenPrecheck.VALID) {
+                    log.debug("JWT 형식 검사 실패: {}", precheck);
+                    ErrorResponseWriter.write(response, AuthErrorCode.AUTH_TOKEN_INVALID);
+                    return;
+                }
+
+                VerifiedToken verifiedToken = jwtTokenProvider.verify(jwt);
+
+                // 로그아웃으로 무효화된 토큰인지 확인 (방식은 spring.jwt.revocation.strategy)
+                if (tokenStore.isRevoked(verifiedToken)) {
+                    log.debug("로그아웃된 토큰으로 요청: {}", verifiedToken.getRevocationId());
+                    ErrorResponseWriter.write(response, AuthErrorCode.AUTH_TOKEN_INVALID);
+                    return;
+                }
+
+                Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+                request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
 
             filterChain.doFilter(request, response);
 
         } catch (GeneralException e) {
-            log.error("JWT 인증 실패: {}", e.getMessage());
+            log.warn("JWT 인증 실패: {}", e.getCode().getCode());
 
             // JWT 검증 실패 시 직접 JSON 에러 응답 반환
-            response.setContentType("application/json;charset=UTF-8");
-            response.setStatus(e.getCode().getHttpStatus().value());
-
-            ApiResponse.Body<?> errorBody = ApiResponse.createFailureBody(e.getCode());
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-            response.getWriter().write(objectMapper.writeValueAsString(errorBody));
+            ErrorResponseWriter.write(response, e.getCode());
         }
     }
 
@@ -1,6 +1,10 @@
 package com.myApp.auth.jwt;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myApp.auth.dto.AuthPrincipal;
 import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
 import com.myApp.global.apiPayload.code.status.AuthErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
 import io.jsonwebtoken.*;
@@ -8,123 +12,329 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey; // Key 대신 SecretKey 사용 권장
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    // 이전 형식: sub = email, auth = "ROLE_USER,..."
     private static final String AUTHORITIES_KEY = "auth";
+    // 현재 형식: sub = member id, rl = 권한 코드, jti = 토큰 ID, iat = 발급 시각, sid = 세션(기기) ID
+    private static final String ROLE_KEY = "rl";
+    private static final String SESSION_ID_KEY = "sid";
+    // Refresh Token 에는 재발급할 권한 코드와 회원 권한 버전을 기록 (재발급 시 세션/DB 를 조회하지 않음)
+    // rl 이 있으면 Access Token 으로 인증되므로 다른 이름을 사용
+    private static final String SESSION_ROLE_KEY = "srl";
+    private static final String AUTH_VERSION_KEY = "av";
+    // iat 는 초 단위이므로 Access Token 에는 발급 시각의 밀리초 부분(0~999)을 따로 기록 (회원 단위 무효화 기준 시각 비교용)
+    private static final String ISSUED_AT_MILLIS_KEY = "iam";
     private static final String BEARER_TYPE = "Bearer";
+    // 발급하는 토큰은 수백 바이트 수준이므로 그 이상은 검증하지 않고 거절
+    private static final int MAX_TOKEN_LENGTH = 2048;
+    // 서명 검증 없이 payload 를 읽을 때만 사용
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
     // Key -> SecretKey 타입 변경 (0.12.x 권장)
     private final SecretKey key;
 
+    // 불변/스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+    private final PooledMacAlgorithm signatureAlgorithm;
+    // 발급하는 모든 토큰의 header 세그먼트 (예: {"alg":"HS256"} 의 base64url)
+    private final String expectedHeader;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
     public JwtTokenProvider(@Value("${spring.jwt.secret}") String secretKey,
             @Value("${spring.jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${spring.jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
+            @Value("${spring.jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
+        this.signatureAlgorithm = new PooledMacAlgorithm(key);
+        String sample = Jwts.builder().subject("").signWith(key, signatureAlgorithm).compact();
+        this.expectedHeader = sample.substring(0, sample.indexOf('.'));
+    }
+
+    // 세션 없이 발급 (sid 클레임 없음, null 클레임은 추가되지 않음)
+    public String generateAccessToken(AuthPrincipal principal) {
+        return generateAccessToken(principal, null, System.currentTimeMillis());
     }
 
-    public String generateAccessToken(Authentication authentication) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    public String generateRefreshToken(AuthPrincipal principal, long authVersion) {
+        return generateRefreshToken(principal, null, authVersion, System.currentTimeMillis());
+    }
+
+    // sessionId: 로그인한 기기의 세션 ID (로그인 시 newSessionId() 로 만들고, 재발급 시에는 그대로 유지)
+    // authVersion: 권한을 읽은 시점의 Member.authVersion (Refresh Token 에 기록되어 재발급 시 세션의 버전과 비교)
+    public TokenDto generateTokenDto(AuthPrincipal principal, String sessionId, long authVersion) {
+        // Access/Refresh Token 이 같은 발급 시각을 기준으로 만료시간을 갖도록 시계는 한 번만 읽음
+        long now = System.currentTimeMillis();
+        long accessTokenExpiresIn = now + accessTokenValidityInMilliseconds;
 
-        long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + accessTokenValidityInMilliseconds);
+        String accessToken = generateAccessToken(principal, sessionId, now);
+        String refreshToken = generateRefreshToken(principal, sessionId, authVersion, now);
 
+        return TokenDto.builder()
+                .grantType(BEARER_TYPE)
+                .accessToken(accessToken)
+                .accessTokenExpiresIn(accessTokenExpiresIn)
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    private String generateAccessToken(AuthPrincipal principal, String sessionId, long now) {
         return Jwts.builder()
-                .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
-                .expiration(accessTokenExpiresIn)
-                .signWith(key)
+                .subject(memberIdOf(principal))
+                .claim(ROLE_KEY, principal.getRole().getCode())
+                .claim(SESSION_ID_KEY, sessionId)
+                .claim(ISSUED_AT_MILLIS_KEY, now % 1000)
+                .id(newTokenId())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenValidityInMilliseconds))
+                .signWith(key, signatureAlgorithm)
                 .compact();
     }
 
-    public String generateRefreshToken(Authentication authentication) {
-        long now = (new Date()).getTime();
+    private String generateRefreshToken(AuthPrincipal principal, String sessionId, long authVersion, long now) {
         return Jwts.builder()
-                .subject(authentication.getName()) // email 주소
+                .subject(memberIdOf(principal)) // member id
+                .claim(SESSION_ROLE_KEY, principal.getRole().getCode())
+                .claim(AUTH_VERSION_KEY, authVersion)
+                .claim(SESSION_ID_KEY, sessionId)
+                .id(newTokenId())
+                .issuedAt(new Date(now))
                 .expiration(new Date(now + refreshTokenValidityInMilliseconds))
-                .signWith(key)
+                .signWith(key, signatureAlgorithm)
                 .compact();
     }
 
-    public TokenDto generateTokenDto(Authentication authentication) {
-        String accessToken = generateAccessToken(authentication);
-        String refreshToken = generateRefreshToken(authentication);
+    private String memberIdOf(AuthPrincipal principal) {
+        if (principal.getId() == null || principal.getRole() == null) {
+            throw new IllegalArgumentException("토큰 발급에는 member id 와 권한이 필요합니다.");
+        }
+        return principal.getUsername();
+    }
 
-        long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + accessTokenValidityInMilliseconds);
+    // 128bit 랜덤 값을 base64url 로 인코딩 (22자)
+    private String newTokenId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(random.nextLong())
+                .putLong(random.nextLong());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
 
-        return TokenDto.builder()
-                .grantType(BEARER_TYPE)
-                .accessToken(accessToken)
-                .accessTokenExpiresIn(accessTokenExpiresIn.getTime())
-                .refreshToken(refreshToken)
-                .build();
+    // 96bit 랜덤 값을 base64url 로 인코딩 (16자), 한 회원의 기기 수 정도만 구분하면 되므로 토큰 ID 보다 짧게 사용
+    public static String newSessionId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ByteBuffer buffer = ByteBuffer.allocate(12)
+                .putLong(random.nextLong())
+                .putInt(random.nextInt());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
     }
 
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        AuthPrincipal principal = createPrincipal(parseClaims(accessToken));
 
-        if (claims.get(AUTHORITIES_KEY) == null) {
+        if (principal == null) {
             throw new GeneralException(AuthErrorCode.TOKEN_NOT_FOUND);
         }
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
-                .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return new JwtAuthentication(principal);
+    }
+
+    // 이미 검증된 토큰의 Authentication 반환 (재파싱 없음, 캐시된 Principal 을 요청별 Authentication 으로 감쌈)
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        if (verifiedToken.getPrincipal() == null) {
+            throw new GeneralException(AuthErrorCode.TOKEN_NOT_FOUND);
+        }
+
+        return new JwtAuthentication(verifiedToken.getPrincipal());
+    }
+
+    // 권한 목록은 공유 불변 객체를 사용하므로 Principal 만 생성
+    // 권한 클레임이 없으면 (Refresh Token) null
+    private AuthPrincipal createPrincipal(Claims claims) {
+        String roleCode = claims.get(ROLE_KEY, String.class);
+        if (roleCode != null) {
+            Role role = Role.fromCode(roleCode);
+            return new AuthPrincipal(Long.valueOf(claims.getSubject()), null, role);
+        }
+
+        // 이전 형식 토큰 (전환 기간 동안 허용)
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        if (authorities != null) {
+            return AuthPrincipal.legacy(claims.getSubject(), GrantedAuthorities.of(authorities.toString()));
+        }
+        return null;
+    }
+
+    /**
+     * 서명 검증 전에 길이, 3개의 base64url 세그먼트, alg 헤더를 검사합니다.
+     * 객체 생성이나 예외 없이 결과 코드만 반환하므로, 잘못된 토큰이 대량으로 들어와도 비용이 작습니다.
+     */
+    public TokenPrecheck precheck(String token) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return TokenPrecheck.TOO_LONG;
+        }
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        int dots = 0;
+        int segmentStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                // 빈 세그먼트 또는 세그먼트 초과
+                if (i == segmentStart || ++dots > 2) {
+                    return TokenPrecheck.MALFORMED;
+                }
+                segmentStart = i + 1;
+            } else if (!isBase64UrlChar(c)) {
+                return TokenPrecheck.MALFORMED;
+            }
+        }
+        if (dots != 2 || segmentStart == length) {
+            return TokenPrecheck.MALFORMED;
+        }
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        int headerLength = expectedHeader.length();
+        if (length <= headerLength || token.charAt(headerLength) != '.' || !token.startsWith(expectedHeader)) {
+            return TokenPrecheck.UNSUPPORTED_ALGORITHM;
+        }
+        return TokenPrecheck.VALID;
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
     }
 
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * 서명 검증과 클레임 파싱을 한 번에 수행하고 그 결과를 {@link VerifiedToken} 으로 반환합니다.
+     * 검증에 실패하면 {@link GeneralException} 을 던집니다.
+     */
+    public VerifiedToken verify(String token) {
+        // 이미 검증된 토큰이면 캐시에서 반환 (exp 이후에는 캐시에서 제거됨)
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             // [변경 5] parserBuilder() -> parser(), verifyWith(key), parseSignedClaims()
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            // 파서는 생성자에서 한 번만 만들어 재사용
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+            AuthPrincipal principal = createPrincipal(claims);
+            // jti 가 있으면 현재 형식 (sub = member id)
+            Long memberId = claims.getId() != null ? Long.valueOf(claims.getSubject()) : null;
+            String signature = token.substring(token.lastIndexOf('.') + 1);
+
+            VerifiedToken verifiedToken = VerifiedToken.builder()
+                    .token(token)
+                    .subject(claims.getSubject())
+                    .memberId(memberId)
+                    .tokenId(claims.getId())
+                    .issuedAt(issuedAtOf(claims))
+                    .expiration(claims.getExpiration().getTime())
+                    .signature(signature)
+                    .revocationId(claims.getId() != null ? claims.getId() : revocationIdOf(signature))
+                    .sessionId(claims.get(SESSION_ID_KEY, String.class))
+                    .sessionRole(sessionRoleOf(claims))
+                    .authVersion(claims.get(AUTH_VERSION_KEY) instanceof Number version ? version.longValue() : null)
+                    .principal(principal)
+                    .build();
+
+            verifiedTokenCache.put(verifiedToken);
+            return verifiedToken;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.", e);
+            // 클라이언트 입력 오류이므로 스택 트레이스 없이 기록
+            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
             throw new GeneralException(AuthErrorCode.AUTH_TOKEN_INVALID);
         } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.", e);
+            log.debug("만료된 JWT 토큰입니다: {}", e.getMessage());
             throw new GeneralException(AuthErrorCode.AUTH_TOKEN_EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.", e);
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
             throw new GeneralException(AuthErrorCode.AUTH_TOKEN_INVALID);
         } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.", e);
+            // NumberFormatException (잘못된 member id subject), 알 수 없는 권한 코드 포함
+            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
             throw new GeneralException(AuthErrorCode.AUTH_TOKEN_INVALID);
         }
     }
 
+    // Refresh Token 의 권한 (권한 클레임을 넣기 전에 발급된 Refresh Token 과 Access Token 은 null)
+    private static Role sessionRoleOf(Claims claims) {
+        String roleCode = claims.get(SESSION_ROLE_KEY, String.class);
+        return roleCode != null ? Role.fromCode(roleCode) : null;
+    }
+
+    // iat(초) + 밀리초 부분, iat 가 없는 이전 형식 토큰은 0
+    private static long issuedAtOf(Claims claims) {
+        if (claims.getIssuedAt() == null) {
+            return 0;
+        }
+        long issuedAt = claims.getIssuedAt().getTime();
+        return claims.get(ISSUED_AT_MILLIS_KEY) instanceof Number millis ? issuedAt + millis.longValue() : issuedAt;
+    }
+
+    /**
+     * 서명을 검증하지 않고 토큰의 revocationId 를 구합니다 (만료된 토큰도 구할 수 있음).
+     * Redis 에 이미 기록된 이전 형식 블랙리스트 키/메시지(토큰 전체)를 옮길 때만 사용하며, 인증에 사용하면 안 됩니다.
+     * 형식이 잘못된 토큰이면 null 입니다.
+     */
+    public static String unverifiedRevocationIdOf(String token) {
+        int payloadStart = token.indexOf('.') + 1;
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (payloadStart == 0 || payloadStart == signatureStart) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(payloadStart, signatureStart - 1));
+            JsonNode tokenId = OBJECT_MAPPER.readTree(payload).get(Claims.ID);
+            return tokenId != null && tokenId.isTextual()
+                    ? tokenId.asText() : revocationIdOf(token.substring(signatureStart));
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    // jti 가 없는 이전 형식 토큰은 서명의 SHA-256 앞 128bit 를 jti 와 같은 22자 base64url 로 사용
+    private static String revocationIdOf(String signature) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(signature.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
     public Long getExpiration(String accessToken) {
         // accessToken 남은 유효시간
         Date expiration = parseClaims(accessToken).getExpiration();
@@ -135,11 +345,7 @@ public class JwtTokenProvider {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -0,0 +1,85 @@
+package com.myApp.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SecureRequest;
+import io.jsonwebtoken.security.SecurityException;
+import io.jsonwebtoken.security.VerifySecureDigestRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 토큰 서명용 HMAC 알고리즘입니다.
+ * jjwt 기본 구현은 서명할 때마다 Mac 을 새로 조회/초기화하므로, 초기화된 Mac 을 풀에 보관해 재사용합니다.
+ * 가상 스레드는 요청마다 새로 생성되어 ThreadLocal 로는 재사용이 되지 않으므로 스레드와 무관한 풀을 사용합니다.
+ * 서명 키가 고정되어 있다는 전제이며, 검증은 jjwt 기본 구현에 위임합니다.
+ */
+class PooledMacAlgorithm implements SecureDigestAlgorithm<SecretKey, SecretKey> {
+
+    // 서명은 CPU 작업이므로 코어 수를 넘는 동시 서명분까지 보관해도 재사용되지 않음
+    private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final MacAlgorithm delegate;
+    private final SecretKey key;
+    // 반납된 Mac 은 다음 서명에서 재사용, 가득 차면 버려서 순간적인 동시 서명 폭주 후에도 크기가 제한됨
+    private final BlockingQueue<Mac> pool = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    PooledMacAlgorithm(SecretKey key) {
+        this.delegate = algorithmFor(key);
+        this.key = key;
+    }
+
+    private Mac acquire() {
+        Mac instance = pool.poll();
+        if (instance != null) {
+            return instance;
+        }
+        try {
+            instance = Mac.getInstance(key.getAlgorithm());
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new SecurityException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    // Keys.hmacShaKeyFor 가 키 길이에 따라 정한 알고리즘을 그대로 따름
+    private static MacAlgorithm algorithmFor(SecretKey key) {
+        return switch (key.getAlgorithm()) {
+            case "HmacSHA512" -> Jwts.SIG.HS512;
+            case "HmacSHA384" -> Jwts.SIG.HS384;
+            default -> Jwts.SIG.HS256;
+        };
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public byte[] digest(SecureRequest<InputStream, SecretKey> request) throws SecurityException {
+        Mac instance = acquire();
+        try (InputStream payload = request.getPayload()) {
+            // doFinal 이 Mac 을 초기 상태로 되돌리므로 그대로 반납 가능
+            return instance.doFinal(payload.readAllBytes());
+        } catch (IOException e) {
+            instance.reset();
+            throw new SecurityException("JWT 서명에 실패했습니다.", e);
+        } finally {
+            pool.offer(instance);
+        }
+    }
+
+    @Override
+    public boolean verify(VerifySecureDigestRequest<SecretKey> request) throws SecurityException {
+        return delegate.verify(request);
+    }
+}
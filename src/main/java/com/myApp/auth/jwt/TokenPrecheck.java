@@ -0,0 +1,12 @@
+package com.myApp.auth.jwt;
+
+/**
+ * 서명 검증 전에 수행하는 토큰 구조 검사 결과입니다.
+ * 형식이 잘못된 토큰은 예외 없이 결과 코드로 걸러내고, VALID 인 토큰만 HMAC 검증으로 넘깁니다.
+ */
+public enum TokenPrecheck {
+    VALID,
+    TOO_LONG,               // 최대 길이 초과
+    MALFORMED,              // header.payload.signature 3개 세그먼트가 아니거나 base64url 문자가 아님
+    UNSUPPORTED_ALGORITHM   // 발급 시 사용하는 alg 헤더와 다름
+}
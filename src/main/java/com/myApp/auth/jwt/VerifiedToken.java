@@ -0,0 +1,42 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Role;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증과 클레임 파싱이 끝난 JWT 를 나타내는 불변 객체입니다.
+ * 요청당 한 번만 생성하여 request attribute 에 보관하고,
+ * 이후 로그아웃 여부 확인, AuthService 등에서 다시 파싱하지 않고 재사용합니다.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    private final String token;      // 원본 compact 토큰
+    private final String subject;    // sub 클레임 (member id, 이전 형식은 email)
+    private final Long memberId;     // 이전 형식 토큰은 null
+    private final String tokenId;    // jti 클레임 (이전 형식 토큰은 null)
+    private final long issuedAt;     // iat + iam (epoch millis, iam 이 없으면 초 단위, iat 가 없는 이전 형식 토큰은 0)
+    private final long expiration;   // exp (epoch millis)
+    private final String signature;  // 서명 세그먼트
+    private final String revocationId; // 블랙리스트 키 (jti, 이전 형식은 서명의 SHA-256 앞 128bit)
+    private final String sessionId;  // sid 클레임 (기기별 세션 ID, sid 를 넣기 전에 발급된 토큰은 null)
+    private final Role sessionRole;  // srl 클레임 (Refresh Token 의 권한, 권한 클레임을 넣기 전에 발급된 토큰은 null)
+    private final Long authVersion;  // av 클레임 (Refresh Token 발급 시의 회원 권한 버전, 없으면 null)
+    private final AuthPrincipal principal; // 권한 클레임이 있는 경우(Access Token)에만 생성 (불변, 공유 가능)
+
+    // 토큰 남은 유효시간 (millis)
+    public long getRemainingMillis() {
+        return expiration - System.currentTimeMillis();
+    }
+
+    // 필터에서 저장해 둔 검증 결과 조회 (없으면 null)
+    public static VerifiedToken from(HttpServletRequest request) {
+        return (VerifiedToken) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,88 @@
+package com.myApp.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰을 서명 세그먼트 기준으로 보관하는 로컬 캐시입니다.
+ * 같은 Access Token 이 만료될 때까지 반복해서 들어오므로, HMAC 검증과 클레임 파싱은 노드당 한 번만 수행합니다.
+ * 엔트리는 토큰의 exp 시점에 만료되며, 최대 크기를 넘으면 오래 쓰이지 않은 엔트리부터 제거됩니다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    // 비활성화 시 null
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${spring.jwt.cache.enabled:false}") boolean enabled,
+            @Value("${spring.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new ExpireAtTokenExpiration())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    public VerifiedToken get(String token) {
+        if (cache == null) {
+            return null;
+        }
+
+        VerifiedToken cached = cache.getIfPresent(signatureOf(token));
+
+        // 서명만 같고 header/payload 가 다른 토큰은 캐시 적중으로 취급하지 않음
+        if (cached == null || !cached.getToken().equals(token)) {
+            return null;
+        }
+        return cached;
+    }
+
+    // 한 번 쓰고 교체되는 Refresh Token(권한 클레임 없음)은 캐시하지 않음
+    public void put(VerifiedToken verifiedToken) {
+        if (cache != null && verifiedToken.getPrincipal() != null && verifiedToken.getRemainingMillis() > 0) {
+            cache.put(verifiedToken.getSignature(), verifiedToken);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        }
+    }
+
+    private static String signatureOf(String token) {
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
+    // 엔트리 수명을 토큰의 exp 에 맞춤
+    private static class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(value.getRemainingMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.myApp.auth.redis;
+
+import com.myApp.auth.repository.RefreshTokenRepository;
+import com.myApp.auth.store.TokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이전 @RedisHash("refreshToken") 저장소의 세션을 {@link RefreshTokenRepository} 형식으로 옮깁니다.
+ * 기동 시 "refreshToken:*" 를 SCAN 하여 세션 hash 는 남은 TTL 그대로(TTL 이 없으면 Refresh Token 유효시간) "refresh:{subject}" 로 옮기고,
+ * 보조 인덱스("refreshToken:token:*", "refreshToken:{id}:idx")와 id 집합("refreshToken")은 삭제합니다.
+ * 여러 노드가 동시에 실행해도 같은 결과가 되며, 남은 이전 형식 키가 없으면 아무 일도 하지 않습니다.
+ *
+ * <p>이전 형식 키를 삭제하므로 이전 버전 노드가 모두 교체된 뒤 spring.jwt.legacy-session=migrate 로 설정했을 때만 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${" + TokenStore.PROPERTY + ":redis}' == 'redis'"
+        + " and '${" + RefreshTokenRepository.LEGACY_SESSION_PROPERTY + ":dual-write}' == 'migrate'")
+public class LegacyRefreshTokenMigration {
+
+    private static final String LEGACY_KEYSPACE = "refreshToken";
+    private static final RedisScript<Long> MIGRATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/migrate-refresh-token.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        String prefix = RefreshTokenRepository.LEGACY_KEY_PREFIX;
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        long migrated = 0;
+        long removed = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String subject = key.substring(prefix.length());
+
+                // member id, email 에는 ':' 이 없으므로 ':' 이 있으면 인덱스/부가 키
+                if (subject.indexOf(':') >= 0) {
+                    redisTemplate.unlink(key);
+                    removed++;
+                    continue;
+                }
+
+                Long result = redisTemplate.execute(MIGRATE_SCRIPT,
+                        List.of(key, RefreshTokenRepository.keyOf(subject)),
+                        String.valueOf(refreshTokenRepository.getTtlMillis()));
+                if (result != null && result > 0) {
+                    migrated++;
+                } else {
+                    removed++;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이전 형식 세션은 전환 기간 동안 조회 시에도 확인하므로 다음 기동 때 다시 시도
+            log.error("이전 형식 Refresh Token 세션 이전에 실패했습니다.", e);
+            return;
+        }
+
+        redisTemplate.unlink(LEGACY_KEYSPACE);
+        if (migrated > 0 || removed > 0) {
+            log.info("이전 형식 Refresh Token 세션 이전 완료 (이전 {}건, 삭제 {}건)", migrated, removed);
+        }
+    }
+}
@@ -1,25 +0,0 @@
-package com.myApp.auth.redis;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
-
-@Getter
-@AllArgsConstructor
-@Builder
-@RedisHash(value = "refreshToken", timeToLive = 60 * 60 * 24 * 14) // 14일
-public class RefreshToken {
-
-    @Id
-    private String id; // User ID (email or PK)
-
-    @Indexed
-    private String token;
-
-    public void updateToken(String token) {
-        this.token = token;
-    }
-}
@@ -0,0 +1,8 @@
+package com.myApp.auth.redis;
+
+/**
+ * 토큰 무효화 시 Redis 에 기록할 엔트리와 다른 노드에 전파할 메시지입니다.
+ * 로그아웃 스크립트가 Refresh Token 삭제와 함께 한 번에 기록할 수 있도록 {@link RevocationStrategy} 가 만들어 줍니다.
+ */
+public record RevocationEntry(String key, String value, long ttlMillis, String channel, String message) {
+}
@@ -0,0 +1,151 @@
+package com.myApp.auth.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myApp.auth.dto.MemberView;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원(subject)별 토큰 무효화 기준 시각을 관리합니다.
+ * 로그아웃 시 "revoked-before:{subject}" 에 현재 시각(epoch millis)을 기록하고, 발급 시각이 그 시각 이하인 토큰은 모두 무효로 봅니다.
+ * 토큰 수와 무관하게 회원당 키 하나만 사용하며, 로그아웃하면 모든 기기의 토큰이 함께 무효화됩니다.
+ * 다른 기기에서 Refresh Token 으로 다시 발급받지 못하도록, 로그아웃 시 회원의 모든 Refresh Token 세션도 함께 삭제합니다
+ * ({@link #revokesAllSessions()}).
+ *
+ * <p>기준 시각은 로컬 캐시에 보관하고(없음도 캐시), 다른 노드에서 갱신되면 Redis pub/sub 으로 캐시를 비웁니다.
+ * 구독이 끊긴 동안 놓친 메시지가 있을 수 있으므로, 다시 구독되면 로컬 캐시를 모두 비웁니다.
+ * 키는 Access Token 유효시간이 지나면 만료되는데, 그 전에 발급된 Access Token 은 이미 모두 만료된 상태입니다.</p>
+ *
+ * <p>발급 시각은 iat(초)에 iam 클레임(밀리초)을 더한 값이므로, 로그아웃 직후 같은 초에 다시 로그인해도 새 토큰은 유효합니다.
+ * iam 이 없는 토큰은 해당 초의 시작 시각으로 비교하므로 같은 초에 발급되었으면 무효로 처리됩니다.</p>
+ *
+ * <p>기준 시각은 로그아웃을 처리한 노드의 시계로, 발급 시각은 토큰을 발급한 노드의 시계로 기록되므로 노드 간 시계는
+ * NTP 등으로 동기화되어 있어야 합니다. 시계 차이가 d 이면 로그아웃 전후 d 이내에 다른 노드에서 발급된 Access Token 의 판정이
+ * 어긋날 수 있습니다. 로그아웃 노드가 d 만큼 느리면 로그아웃 직전 d 이내에 발급된 토큰이 유효하게 남고
+ * (최대 Access Token 유효시간 동안), d 만큼 빠르면 로그아웃 직후 d 이내에 다시 로그인해 받은 토큰이 무효로 처리됩니다.
+ * Refresh Token 세션은 시각과 무관하게 삭제되므로 재발급으로 이어지지는 않습니다.</p>
+ *
+ * <p>이전 형식 토큰은 subject 가 email 이므로, 기준 시각은 member id 와 email 두 subject 에 함께 기록합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${spring.jwt.token-store:redis}' == 'redis' and '${" + RevocationStrategy.PROPERTY + ":token}' == 'epoch'")
+public class RevocationEpochStore implements RevocationStrategy, MessageListener, SubscriptionListener, MeterBinder {
+
+    public static final String CHANNEL = "revocation";
+    private static final String KEY_PREFIX = "revoked-before:";
+    private static final String CACHE_NAME = "jwt.revocation-epoch";
+    // 기준 시각이 없는 회원
+    private static final long NONE = -1;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MemberRepository memberRepository;
+    private final long accessTokenValidityInSeconds;
+    private final Cache<String, Long> cache;
+
+    public RevocationEpochStore(StringRedisTemplate redisTemplate, MemberRepository memberRepository,
+            @Value("${spring.jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
+            @Value("${spring.jwt.revocation.cache-ttl:1m}") Duration cacheTtl,
+            @Value("${spring.jwt.revocation.cache-maximum-size:100000}") long cacheMaximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.memberRepository = memberRepository;
+        this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
+        // pub/sub 메시지를 놓친 경우에도 cacheTtl 이후에는 Redis 값으로 맞춰짐
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void revoke(VerifiedToken accessToken) {
+        long epoch = System.currentTimeMillis();
+        write(accessToken.getSubject(), epoch);
+        otherSubjectOf(accessToken).ifPresent(subject -> write(subject, epoch));
+    }
+
+    @Override
+    public RevocationEntry entryOf(VerifiedToken accessToken) {
+        String subject = accessToken.getSubject();
+        String epoch = String.valueOf(System.currentTimeMillis());
+        return new RevocationEntry(KEY_PREFIX + subject, epoch, accessTokenValidityInSeconds * 1000, CHANNEL, subject);
+    }
+
+    // 스크립트로 기록한 기준 시각은 다음 조회에서 Redis 로부터 읽음, 다른 형식의 subject 는 여기서 기록
+    @Override
+    public void afterRevoked(VerifiedToken accessToken) {
+        cache.invalidate(accessToken.getSubject());
+        otherSubjectOf(accessToken).ifPresent(subject -> write(subject, System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean revokesAllSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(VerifiedToken accessToken) {
+        long epoch = cache.get(accessToken.getSubject(), this::load);
+        // iat 가 없는 이전 형식 토큰은 0 으로 취급 (기준 시각이 있으면 무효)
+        // 같은 밀리초는 무효로 처리 (로그아웃 후 같은 밀리초 안에 다시 발급될 수는 없음)
+        return epoch != NONE && accessToken.getIssuedAt() <= epoch;
+    }
+
+    private void write(String subject, long epoch) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + subject, String.valueOf(epoch),
+                accessTokenValidityInSeconds, TimeUnit.SECONDS);
+        cache.put(subject, epoch);
+        redisTemplate.convertAndSend(CHANNEL, subject);
+    }
+
+    // 현재 형식 토큰이면 email, 이전 형식(email subject) 토큰이면 member id (회원이 없거나 email 이 없으면 empty)
+    private Optional<String> otherSubjectOf(VerifiedToken accessToken) {
+        if (accessToken.getMemberId() != null) {
+            return memberRepository.findViewById(accessToken.getMemberId()).map(MemberView::email);
+        }
+        return memberRepository.findViewByEmail(accessToken.getSubject()).map(member -> String.valueOf(member.id()));
+    }
+
+    private long load(String subject) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + subject);
+        return value != null ? Long.parseLong(value) : NONE;
+    }
+
+    // 다른 노드(자기 자신 포함)에서 기준 시각을 갱신함
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 재연결 후 재구독되면 끊긴 동안 놓친 갱신이 있을 수 있으므로 로컬 캐시를 모두 비움 (첫 구독 시에는 비어 있음)
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (cache.estimatedSize() > 0) {
+            log.warn("무효화 채널을 다시 구독했습니다. 로컬 기준 시각 캐시를 비웁니다.");
+        }
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
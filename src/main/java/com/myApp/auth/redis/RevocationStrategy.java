@@ -0,0 +1,32 @@
+package com.myApp.auth.redis;
+
+import com.myApp.auth.jwt.VerifiedToken;
+
+/**
+ * Access Token 무효화(로그아웃) 방식입니다.
+ * spring.jwt.revocation.strategy 값에 따라 하나의 구현만 등록되며, Redis 저장소({@code RedisTokenStore})에서 사용합니다.
+ *
+ * <ul>
+ *     <li>token (기본값): 로그아웃한 토큰 하나만 무효화 ({@link TokenBlacklist})</li>
+ *     <li>epoch: 로그아웃 시점 이전에 해당 회원에게 발급된 모든 토큰을 무효화 ({@link RevocationEpochStore})</li>
+ * </ul>
+ */
+public interface RevocationStrategy {
+
+    String PROPERTY = "spring.jwt.revocation.strategy";
+
+    void revoke(VerifiedToken accessToken);
+
+    boolean isRevoked(VerifiedToken accessToken);
+
+    // revoke 에서 기록하는 Redis 엔트리 (기록할 필요가 없으면 null), 다른 명령과 함께 원자적으로 기록할 때 사용
+    RevocationEntry entryOf(VerifiedToken accessToken);
+
+    // entryOf 의 엔트리를 직접 기록한 뒤 로컬 상태에 반영
+    void afterRevoked(VerifiedToken accessToken);
+
+    // 로그아웃 시 해당 회원의 모든 기기 세션을 함께 삭제해야 하는지 (모든 토큰을 무효화하는 방식)
+    default boolean revokesAllSessions() {
+        return false;
+    }
+}
@@ -0,0 +1,264 @@
+package com.myApp.auth.redis;
+
+import com.myApp.auth.jwt.JwtTokenProvider;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.global.common.BloomFilter;
+import com.myApp.global.redis.RedisClientSideCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트입니다.
+ * Redis 의 "blacklist:{revocationId}" 키가 원본이며, 각 노드는 블랙리스트에 오른 토큰을 로컬 Bloom filter 에도 기록합니다.
+ * revocationId 는 jti(이전 형식 토큰은 서명 해시)로 22자 고정이므로, 토큰 전체를 키로 쓰던 때보다 키가 작습니다.
+ * 대부분의 토큰은 블랙리스트에 없으므로 Bloom filter 가 "확실히 없음"을 답하면 Redis 조회를 생략하고,
+ * 있을 수도 있는 경우에만 Redis 에서 확인합니다.
+ *
+ * <p>다른 노드의 로그아웃은 Redis pub/sub 으로 전달받고, 기동 시에는 Redis 의 블랙리스트 키를 SCAN 하여 복원합니다.
+ * 연결이 끊겼다가 다시 구독되면 끊긴 동안 놓친 로그아웃이 있을 수 있으므로 같은 방식으로 다시 복원합니다.
+ * 복원이 끝나기 전까지는 모든 조회를 Redis 로 보냅니다.</p>
+ *
+ * <p>이전 버전 노드는 토큰 전체를 키("blacklist:{token}")와 메시지로 사용합니다.
+ * 모든 노드가 교체될 때까지(spring.jwt.blacklist.legacy-keys=true) 이전 형식 키도 함께 기록/조회하고,
+ * 이전 형식 메시지와 키는 revocationId 로 바꿔 필터에 기록합니다.</p>
+ *
+ * <p>블랙리스트 엔트리는 최대 Access Token 유효시간만큼만 유지되므로, Bloom filter 는 유효시간마다 세대를 교체합니다.
+ * 현재/이전 두 세대를 함께 조회하므로 엔트리는 최소 유효시간 동안 유지되고, 오래된 엔트리로 오탐률이 계속 오르지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${spring.jwt.token-store:redis}' == 'redis' and '${" + RevocationStrategy.PROPERTY + ":token}' == 'token'")
+public class TokenBlacklist implements RevocationStrategy, MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "blacklist";
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String METRIC_NAME = "jwt.blacklist.lookup";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisClientSideCache clientSideCache;
+    private final boolean legacyKeys;
+    private final long generationMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile Generations generations;
+    private volatile boolean ready;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    // 진행 중인 복원 중 가장 최근 것만 ready 를 켬
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    private final Counter filteredCounter;
+    private final Counter redisCounter;
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate, RedisClientSideCache clientSideCache,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
+            @Value("${spring.jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${spring.jwt.blacklist.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${spring.jwt.blacklist.legacy-keys:true}") boolean legacyKeys) {
+        this.redisTemplate = redisTemplate;
+        this.clientSideCache = clientSideCache;
+        this.legacyKeys = legacyKeys;
+        this.generationMillis = accessTokenValidityInSeconds * 1000;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.generations = new Generations(newFilter(), newFilter(), System.currentTimeMillis());
+        // 로컬 필터로 Redis 조회를 생략한 비율 확인용
+        this.filteredCounter = Counter.builder(METRIC_NAME).tag("result", "filtered").register(meterRegistry);
+        this.redisCounter = Counter.builder(METRIC_NAME).tag("result", "redis").register(meterRegistry);
+    }
+
+    // 로그아웃 스크립트와 같은 엔트리를 기록하고 다른 노드에 전파 (같은 노드의 다음 요청부터 바로 반영)
+    @Override
+    public void revoke(VerifiedToken accessToken) {
+        RevocationEntry entry = entryOf(accessToken);
+        if (entry == null) {
+            return;
+        }
+        redisTemplate.opsForValue().set(entry.key(), entry.value(), entry.ttlMillis(), TimeUnit.MILLISECONDS);
+        afterRevoked(accessToken);
+        redisTemplate.convertAndSend(entry.channel(), entry.message());
+    }
+
+    @Override
+    public RevocationEntry entryOf(VerifiedToken accessToken) {
+        long remainingMillis = accessToken.getRemainingMillis();
+        if (remainingMillis <= 0) {
+            return null;
+        }
+        String revocationId = accessToken.getRevocationId();
+        return new RevocationEntry(KEY_PREFIX + revocationId, "logout", remainingMillis, CHANNEL, revocationId);
+    }
+
+    @Override
+    public void afterRevoked(VerifiedToken accessToken) {
+        currentGenerations().current().put(accessToken.getRevocationId());
+        addLegacyKey(accessToken.getToken(), accessToken.getRemainingMillis());
+    }
+
+    @Override
+    public boolean isRevoked(VerifiedToken accessToken) {
+        if (!mightContain(accessToken.getRevocationId())) {
+            return false;
+        }
+        redisCounter.increment();
+        // 같은 토큰의 반복 조회는 client-side cache 에서 처리 (다른 노드의 로그아웃은 Redis 가 무효화)
+        // 이전 버전 노드에서 로그아웃한 토큰은 토큰 전체를 키로 기록되어 있음
+        return clientSideCache.exists(KEY_PREFIX + accessToken.getRevocationId())
+                || legacyKeys && clientSideCache.exists(KEY_PREFIX + accessToken.getToken());
+    }
+
+    // 복원 전이면 항상 true (Redis 에서 확인)
+    private boolean mightContain(String revocationId) {
+        if (!ready) {
+            return true;
+        }
+        Generations current = currentGenerations();
+        if (!current.current().mightContain(revocationId) && !current.previous().mightContain(revocationId)) {
+            filteredCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 이전 버전 노드가 조회하는 키도 기록 (legacy-keys 가 꺼져 있으면 생략)
+    private void addLegacyKey(String token, long remainingMillis) {
+        if (!legacyKeys || remainingMillis <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + token, "logout", remainingMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, token);
+    }
+
+    // 다른 노드(자기 자신 포함)에서 발행한 로그아웃 이벤트 (이전 버전 노드는 토큰 전체를 발행)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String revocationId = toRevocationId(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (revocationId != null) {
+            currentGenerations().current().put(revocationId);
+        }
+    }
+
+    // 구독 시작/재연결 후 재구독 (Lettuce 가 재연결하면 채널을 다시 구독함)
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (subscribed.compareAndSet(false, true)) {
+            return; // 첫 구독은 기동 시 복원(rebuild)이 처리
+        }
+        log.warn("블랙리스트 채널을 다시 구독했습니다. 끊긴 동안의 로그아웃을 복원합니다.");
+        long attempt;
+        synchronized (this) {
+            ready = false;
+            attempt = rebuilds.incrementAndGet();
+        }
+        // 구독 스레드에서 SCAN 하지 않음 (그동안 메시지 전달이 멈춤)
+        Thread.ofVirtual().name("blacklist-rebuild").start(() -> rebuild(attempt));
+    }
+
+    /**
+     * 기동 시 Redis 의 블랙리스트 키로 로컬 필터를 복원합니다.
+     * 구독은 이미 시작된 상태이므로, 복원 중에 발행된 로그아웃도 누락되지 않습니다.
+     * 토큰 전체를 키로 쓰던 이전 형식 키는 revocationId 로 바꿔 기록하고,
+     * legacy-keys 가 꺼져 있으면(모든 노드 교체 후) revocationId 키로 옮깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(rebuilds.incrementAndGet());
+    }
+
+    private void rebuild(long attempt) {
+        BloomFilter filter = currentGenerations().current();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        long count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String member = key.substring(KEY_PREFIX.length());
+                String revocationId = toRevocationId(member);
+                // 이전 버전 노드가 남아 있는 동안에는 이전 형식 키를 그대로 둠
+                if (!legacyKeys && isLegacy(member)) {
+                    revocationId = migrateLegacyKey(key, revocationId);
+                }
+                if (revocationId != null) {
+                    filter.put(revocationId);
+                    count++;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 복원에 실패하면 모든 조회를 Redis 로 보내는 상태로 유지
+            log.error("블랙리스트 필터 복원에 실패했습니다. Redis 조회로 동작합니다.", e);
+            return;
+        }
+
+        // 복원 중에 다시 재연결되었으면 나중에 시작한 복원이 끝날 때까지 Redis 조회 유지
+        synchronized (this) {
+            if (rebuilds.get() == attempt) {
+                ready = true;
+            }
+        }
+        log.info("블랙리스트 필터 복원 완료 ({}건)", count);
+    }
+
+    // JWT 는 '.' 을 포함하고 revocationId(base64url)는 포함하지 않음
+    private static boolean isLegacy(String tokenOrRevocationId) {
+        return tokenOrRevocationId.indexOf('.') >= 0;
+    }
+
+    // 이전 형식(토큰 전체)이면 revocationId 로 변환, 형식이 잘못된 토큰이면 null
+    private static String toRevocationId(String tokenOrRevocationId) {
+        return isLegacy(tokenOrRevocationId)
+                ? JwtTokenProvider.unverifiedRevocationIdOf(tokenOrRevocationId)
+                : tokenOrRevocationId;
+    }
+
+    // blacklist:{token} -> blacklist:{revocationId} (남은 TTL 유지), 이미 만료되었거나 형식이 잘못된 키면 null
+    // 서명/만료 검증 없이 revocationId 만 구하고, 남은 유효시간은 키의 TTL 을 그대로 사용
+    private String migrateLegacyKey(String key, String revocationId) {
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (revocationId != null && ttl != null && ttl > 0) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + revocationId, "logout", ttl, TimeUnit.MILLISECONDS);
+        }
+        redisTemplate.delete(key);
+        return ttl != null && ttl > 0 ? revocationId : null;
+    }
+
+    // 유효시간이 지나면 세대 교체 (이전 세대는 버리고 현재 세대를 이전 세대로)
+    private Generations currentGenerations() {
+        Generations current = generations;
+        long now = System.currentTimeMillis();
+        if (now - current.createdAt() < generationMillis) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (generations == current) {
+                generations = new Generations(newFilter(), current.current(), now);
+            }
+            return generations;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(expectedInsertions, falsePositiveProbability);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long createdAt) {
+    }
+}
@@ -1,10 +1,55 @@
 package com.myApp.auth.repository;
 
+import com.myApp.auth.dto.MemberView;
 import com.myApp.auth.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
+
+    Optional<Member> findBySocialTypeAndSocialId(String socialType, String socialId);
+
+    /**
+     * 소셜 로그인 회원을 한 번의 쿼리로 저장합니다.
+     * 없으면 추가하고, 같은 (social_type, social_id) 회원이 이미 있으면 이름만 바꿉니다 (같으면 updated_at 도 유지).
+     * email 만 같은 다른 제공자의 회원이면 아무것도 바꾸지 않습니다 (다른 회원의 이름을 덮어쓰지 않음).
+     * 동시에 처음 로그인해도 unique 인덱스 기준으로 한 행만 생깁니다. 실행 후 영속성 컨텍스트를 비우므로 다시 조회해야 합니다.
+     * 시각은 감사(BaseEntity) 필드와 같도록 DB 시간대가 아닌 애플리케이션 시각(now)을 사용합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO users (name, email, role, social_type, social_id, auth_version, created_at, updated_at)"
+            + " VALUES (:name, :email, 'USER', :socialType, :socialId, 0, :now, :now)"
+            + " ON DUPLICATE KEY UPDATE"
+            + " updated_at = IF(social_type = VALUES(social_type) AND social_id = VALUES(social_id)"
+            + " AND NOT (name <=> VALUES(name)), VALUES(updated_at), updated_at),"
+            + " name = IF(social_type = VALUES(social_type) AND social_id = VALUES(social_id), VALUES(name), name)",
+            nativeQuery = true)
+    int upsertSocialMember(String socialType, String socialId, String email, String name, LocalDateTime now);
+
+    // 조회 전용: 엔티티 대신 필요한 컬럼만 select 하고, 실행 전에 영속성 컨텍스트를 flush(dirty checking)하지 않음
+    @Query("select new com.myApp.auth.dto.MemberView(m.id, m.name, m.email, m.role, m.socialType)"
+            + " from Member m where m.id = :id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    Optional<MemberView> findViewById(Long id);
+
+    @Query("select new com.myApp.auth.dto.MemberView(m.id, m.name, m.email, m.role, m.socialType)"
+            + " from Member m where m.email = :email")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    Optional<MemberView> findViewByEmail(String email);
 }
@@ -1,9 +1,195 @@
 package com.myApp.auth.repository;
 
-import com.myApp.auth.redis.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.global.redis.RedisClientSideCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
+/**
+ * Refresh Token 세션 저장소입니다.
+ * 로그인한 기기마다 {@code "refresh:{<subject>}:<세션 ID>"} hash 하나를 사용하고, 만료는 Redis TTL 에 맡깁니다.
+ * hash 에는 토큰(token)과 함께 권한 코드(role), 회원 권한 버전(version), DB 에서 확인한 시각(checked)을 저장하여
+ * 재발급 시 DB 를 조회하지 않습니다 (확인한 지 spring.jwt.session-recheck-interval 이 지나면 다시 확인).
+ *
+ * <p>회원의 세션 목록은 {@code "refresh-sessions:{<subject>}"} zset(세션 ID -> 마지막 사용 시각)으로 관리합니다.
+ * 로그인/재발급 시 최대 세션 수(spring.jwt.max-sessions-per-member)를 넘으면 가장 오래 사용하지 않은 세션부터 삭제합니다.
+ * 세션 ID(sid 클레임)가 없는 토큰의 세션은 {@code "refresh:{<subject>}"} 에 있으며, 다음 재발급 때 기기별 세션으로 옮겨집니다.</p>
+ *
+ * <p>회원의 키는 모두 subject 를 hash tag({...})로 감싸 Redis Cluster 에서도 같은 slot 에 둡니다.
+ * 저장/교체/권한 갱신/로그아웃 스크립트는 세션 목록의 세션 ID 로 다른 기기의 세션 키를 직접 만들어 접근하므로
+ * (KEYS 로 선언하지 않은 키) 세션 키 prefix 도 같은 hash tag 를 가져야 합니다.
+ * 이전 형식 키({@code "refreshToken:<subject>"})와 Access Token 무효화 키는 hash tag 가 없어 다른 slot 일 수 있으므로,
+ * 이 키들을 함께 다루는 경로(dual-write, 세션 ID 가 없는 토큰, email 키 세션의 이전, 로그아웃 무효화 기록)는
+ * 단일 노드/Sentinel 구성을 전제로 합니다.</p>
+ *
+ * <p>이전 @RedisHash 저장소의 "refreshToken:{subject}" 세션은 이전 버전 노드가 계속 사용하므로 전환 방식을 설정으로 고릅니다
+ * ({@value #LEGACY_SESSION_PROPERTY}).</p>
+ * <ul>
+ *     <li>dual-write (기본값): 모든 노드가 교체될 때까지 사용. 저장/교체한 세션을 이전 형식 키에도 함께 기록하고
+ *     이전 형식 키는 옮기지 않습니다. 이전 형식 키에는 회원당 하나만 있으므로 마지막으로 저장/교체한 기기의 세션만 기록됩니다.</li>
+ *     <li>migrate: 모든 노드가 교체된 뒤 사용. 이전 형식 키를 더 기록하지 않고, 기동 시 새 키로 옮깁니다
+ *     ({@code LegacyRefreshTokenMigration}).</li>
+ * </ul>
+ * <p>두 방식 모두 세션 ID 가 없는 토큰은 이전 형식 세션도 조회/교체/삭제하므로, 이전 버전 노드가 저장한 세션도 사용할 수 있습니다.</p>
+ *
+ * <p>교체(재발급) 직후 짧은 유예 기간 동안은 {@code "refresh-grace:{<subject>}:<교체된 토큰 ID>"} 에 새로 발급한 토큰 쌍을 보관합니다.
+ * 같은 Refresh Token 으로 동시에 들어온 재발급 요청은 이 값을 그대로 받습니다.</p>
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    public static final String LEGACY_SESSION_PROPERTY = "spring.jwt.legacy-session";
+    public static final String KEY_PREFIX = "refresh:";
+    public static final String LEGACY_KEY_PREFIX = "refreshToken:";
+    public static final String SESSIONS_KEY_PREFIX = "refresh-sessions:";
+    public static final String TOKEN_FIELD = "token";
+    public static final String ROLE_FIELD = "role";
+    public static final String VERSION_FIELD = "version";
+    public static final String CHECKED_AT_FIELD = "checked";
+    public static final String GRACE_KEY_PREFIX = "refresh-grace:";
+    private static final List<String> SESSION_FIELDS = List.of(TOKEN_FIELD, ROLE_FIELD, VERSION_FIELD, CHECKED_AT_FIELD);
+
+    // 세션 저장 + 세션 목록 갱신 + 최대 수 초과 세션 삭제를 한 번의 왕복으로 처리
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/save-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/update-refresh-session.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisClientSideCache clientSideCache;
+    private final long refreshTokenValidityInMilliseconds;
+    private final long reissueGracePeriodInMilliseconds;
+    private final int maxSessionsPerMember;
+    private final boolean legacyDualWrite;
+
+    public RefreshTokenRepository(StringRedisTemplate redisTemplate, RedisClientSideCache clientSideCache,
+            @Value("${spring.jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${spring.jwt.reissue-grace-period-in-seconds:5}") long reissueGracePeriodInSeconds,
+            @Value("${spring.jwt.max-sessions-per-member:5}") int maxSessionsPerMember,
+            @Value("${" + LEGACY_SESSION_PROPERTY + ":dual-write}") String legacySession) {
+        this.redisTemplate = redisTemplate;
+        this.clientSideCache = clientSideCache;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.reissueGracePeriodInMilliseconds = reissueGracePeriodInSeconds * 1000;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+        this.legacyDualWrite = "dual-write".equals(legacySession);
+    }
+
+    // 회원의 키가 같은 slot 에 놓이도록 subject 를 hash tag 로 사용
+    private static String hashTagOf(String subject) {
+        return "{" + subject + "}";
+    }
+
+    // 세션 ID 가 없는 토큰의 세션
+    public static String keyOf(String subject) {
+        return KEY_PREFIX + hashTagOf(subject);
+    }
+
+    public static String keyOf(String subject, String sessionId) {
+        return sessionId == null ? keyOf(subject) : sessionKeyPrefixOf(subject) + sessionId;
+    }
+
+    // Lua 스크립트에서 세션 ID 를 붙여 세션 키를 만들 때 사용 (KEYS 로 선언하지 않으므로 같은 hash tag 필요)
+    public static String sessionKeyPrefixOf(String subject) {
+        return KEY_PREFIX + hashTagOf(subject) + ":";
+    }
+
+    public static String sessionsKeyOf(String subject) {
+        return SESSIONS_KEY_PREFIX + hashTagOf(subject);
+    }
+
+    public static String legacyKeyOf(String subject) {
+        return LEGACY_KEY_PREFIX + subject;
+    }
+
+    // subject: 교체된 Refresh Token 의 subject, tokenId: 교체된 Refresh Token 의 jti (이전 형식은 서명 해시)
+    public static String graceKeyOf(String subject, String tokenId) {
+        return GRACE_KEY_PREFIX + hashTagOf(subject) + ":" + tokenId;
+    }
+
+    public long getTtlMillis() {
+        return refreshTokenValidityInMilliseconds;
+    }
+
+    public int getMaxSessionsPerMember() {
+        return maxSessionsPerMember;
+    }
+
+    public long getGracePeriodMillis() {
+        return reissueGracePeriodInMilliseconds;
+    }
+
+    // 이전 형식 키에도 함께 기록하는지 (dual-write)
+    public boolean isLegacyDualWrite() {
+        return legacyDualWrite;
+    }
+
+    // 유예 기간 안에 같은 토큰으로 재발급된 토큰 쌍
+    public Optional<TokenDto> findReissued(String subject, String tokenId) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(graceKeyOf(subject, tokenId), List.of("access", "refresh", "expiresIn"));
+        if (values.get(0) == null || values.get(1) == null || values.get(2) == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(TokenDto.builder()
+                .grantType("Bearer")
+                .accessToken((String) values.get(0))
+                .refreshToken((String) values.get(1))
+                .accessTokenExpiresIn(Long.valueOf((String) values.get(2)))
+                .build());
+    }
+
+    public Optional<RefreshSession> findSession(String subject, String sessionId) {
+        // 교체 전까지 같은 세션을 반복 조회하는 동시 재발급은 client-side cache 에서 처리
+        List<String> values = clientSideCache.multiGet(keyOf(subject, sessionId), SESSION_FIELDS);
+        if (values.get(0) == null) {
+            if (sessionId != null) {
+                return Optional.empty();
+            }
+            // 이전 형식 세션에는 토큰만 있음
+            Object token = redisTemplate.opsForHash().get(legacyKeyOf(subject), TOKEN_FIELD);
+            return Optional.ofNullable((String) token)
+                    .map(legacyToken -> new RefreshSession(null, legacyToken, null, 0, 0));
+        }
+
+        Role role = values.get(1) != null ? Role.fromCode(values.get(1)) : null;
+        long version = values.get(2) != null ? Long.parseLong(values.get(2)) : 0;
+        long checkedAt = values.get(3) != null ? Long.parseLong(values.get(3)) : 0;
+        return Optional.of(new RefreshSession(sessionId, values.get(0), role, version, checkedAt));
+    }
+
+    public void save(String subject, RefreshSession session) {
+        List<String> keys = legacyDualWrite
+                ? List.of(keyOf(subject, session.sessionId()), sessionsKeyOf(subject), legacyKeyOf(subject))
+                : List.of(keyOf(subject, session.sessionId()), sessionsKeyOf(subject));
+        redisTemplate.execute(SAVE_SCRIPT, keys,
+                session.token(), String.valueOf(refreshTokenValidityInMilliseconds),
+                session.role().getCode(), String.valueOf(session.version()), session.sessionId(),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(maxSessionsPerMember),
+                sessionKeyPrefixOf(subject), subject, String.valueOf(session.checkedAt()));
+    }
+
+    // 권한 변경을 회원의 모든 세션에 반영 (세션이 없거나 이미 같은/새 버전이면 아무 일도 하지 않음)
+    public void updateRole(String subject, Role role, long version) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(sessionsKeyOf(subject), keyOf(subject)),
+                role.getCode(), String.valueOf(version), sessionKeyPrefixOf(subject));
+    }
+
+    public void delete(String subject, String sessionId) {
+        if (sessionId == null) {
+            redisTemplate.delete(List.of(keyOf(subject), legacyKeyOf(subject)));
+            return;
+        }
+        redisTemplate.delete(keyOf(subject, sessionId));
+        redisTemplate.opsForZSet().remove(sessionsKeyOf(subject), sessionId);
+    }
 }
@@ -1,20 +1,25 @@
 package com.myApp.auth.service;
 
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.dto.RefreshSession;
 import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.event.MemberRoleChangedEvent;
 import com.myApp.auth.jwt.JwtTokenProvider;
-import com.myApp.auth.redis.RefreshToken;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.repository.MemberRepository;
 import com.myApp.auth.repository.RefreshTokenRepository;
+import com.myApp.auth.store.RefreshTokenRotation;
+import com.myApp.auth.store.TokenStore;
 import com.myApp.global.apiPayload.code.status.AuthErrorCode;
-
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
 
 @Slf4j
 @Service
@@ -22,68 +27,141 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final StringRedisTemplate redisTemplate;
+    private final TokenStore tokenStore;
     private final CustomUserDetailsService customUserDetailsService;
+    private final MemberRepository memberRepository;
 
     @org.springframework.beans.factory.annotation.Value("${spring.jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidityInSeconds;
 
-    @Transactional
+    // 세션에 저장된 권한을 DB 와 다시 맞춰 보는 주기 (권한 변경 이벤트 반영에 실패했거나 탈퇴한 회원 대비)
+    @org.springframework.beans.factory.annotation.Value("${spring.jwt.session-recheck-interval:5m}")
+    private Duration sessionRecheckInterval;
+
+    // 이전 버전 노드와 함께 운영하는 동안(dual-write)에만 로그아웃 시 email 키 세션도 정리
+    @org.springframework.beans.factory.annotation.Value("${" + RefreshTokenRepository.LEGACY_SESSION_PROPERTY + ":dual-write}")
+    private String legacySession;
+
+    // DB 를 조회하지 않는 경로가 대부분이므로 트랜잭션(커넥션 획득)을 열지 않음
     public TokenDto reissue(String refreshToken) {
-        // 1. Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 1. Refresh Token 검증 및 subject(member id, 이전 형식은 email), 기기별 세션 ID, 발급 시점의 권한/권한 버전 가져오기
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(refreshToken);
+        // 세션 ID 가 없는 이전 토큰은 새 세션 ID 를 받아 기기별 세션으로 옮겨짐
+        String sessionId = verifiedToken.getSessionId() != null
+                ? verifiedToken.getSessionId() : JwtTokenProvider.newSessionId();
+
+        // 2. Refresh Token 에 담긴 권한으로 토큰 생성 (Redis, DB 조회 없음)
+        // 권한 클레임이 없는 이전 형식 토큰이면 세션에 저장된 권한을 사용
+        long now = System.currentTimeMillis();
+        SessionOwner owner = hasSessionClaims(verifiedToken)
+                ? new SessionOwner(
+                        new AuthPrincipal(verifiedToken.getMemberId(), null, verifiedToken.getSessionRole()),
+                        verifiedToken.getAuthVersion(), RefreshSession.KEEP_CHECKED_AT)
+                : findLegacyOwner(verifiedToken, now);
+        TokenDto tokenDto = generateTokenDto(owner, sessionId);
+
+        // 3. 저장된 Refresh Token 과 일치할 때만 교체 (RTR 방식, 비교와 교체를 스크립트 한 번으로 원자적으로 수행)
+        // 토큰을 발급한 뒤 권한이 바뀌었거나 DB 에서 확인한 지 오래된 세션이면 교체하지 않음
+        // 이전 형식(email 키) 세션은 member id 키로 이전
+        long recheckBefore = now - sessionRecheckInterval.toMillis();
+        RefreshTokenRotation rotation = rotate(verifiedToken, owner, sessionId, tokenDto, recheckBefore);
+
+        if (rotation == RefreshTokenRotation.STALE || rotation == RefreshTokenRotation.RECHECK) {
+            // DB 의 최신 권한으로 다시 발급 (세션에 확인 시각도 갱신됨)
+            owner = loadOwner(verifiedToken);
+            tokenDto = generateTokenDto(owner, sessionId);
+            rotation = rotate(verifiedToken, owner, sessionId, tokenDto, recheckBefore);
+        }
+        if (rotation == RefreshTokenRotation.NOT_FOUND || rotation == RefreshTokenRotation.STALE
+                || rotation == RefreshTokenRotation.RECHECK) {
             throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
         }
+        if (rotation == RefreshTokenRotation.MISMATCH) {
+            // 여러 탭이 동시에 재발급한 경우: 유예 기간 안이면 먼저 교체한 요청과 같은 토큰 쌍을 반환
+            return tokenStore.findReissued(verifiedToken)
+                    .orElseThrow(() -> new GeneralException(AuthErrorCode.REFRESH_TOKEN_MISMATCH));
+        }
 
-        // 2. Refresh Token 에서 email 가져오기
-        String email = jwtTokenProvider.getSubject(refreshToken);
+        return tokenDto;
+    }
 
-        // 3. Redis 에서 id(email) 를 기반으로 저장된 Refresh Token 값을 가져옴
-        RefreshToken redisRefreshToken = refreshTokenRepository.findById(email)
-                .orElseThrow(() -> new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN));
+    private static boolean hasSessionClaims(VerifiedToken verifiedToken) {
+        return verifiedToken.getSessionRole() != null && verifiedToken.getMemberId() != null
+                && verifiedToken.getAuthVersion() != null;
+    }
 
-        // 4. Refresh Token 일치하는지 검사
-        if (!redisRefreshToken.getToken().equals(refreshToken)) {
-            throw new GeneralException(AuthErrorCode.REFRESH_TOKEN_MISMATCH);
+    // 권한 클레임이 없는 이전 형식 토큰: 세션이 없으면 (로그아웃/만료) DB 조회 없이 거절
+    // 권한이 없는 세션이거나 DB 에서 확인한 지 오래된 세션이면 DB 에서 조회하고, 세션에 다시 저장됨
+    private SessionOwner findLegacyOwner(VerifiedToken verifiedToken, long now) {
+        RefreshSession session = tokenStore
+                .findRefreshSession(verifiedToken.getSubject(), verifiedToken.getSessionId())
+                .orElseThrow(() -> new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN));
+        if (session.role() == null || verifiedToken.getMemberId() == null
+                || now - session.checkedAt() >= sessionRecheckInterval.toMillis()) {
+            return loadOwner(verifiedToken);
         }
+        return new SessionOwner(new AuthPrincipal(verifiedToken.getMemberId(), null, session.role()),
+                session.version(), session.checkedAt());
+    }
 
-        // 5. Refresh Token & AccessToken
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication);
+    private TokenDto generateTokenDto(SessionOwner owner, String sessionId) {
+        return jwtTokenProvider.generateTokenDto(owner.principal(), sessionId, owner.authVersion());
+    }
 
-        // 6. 리프레시 토큰 갱신 (RTR 방식)
-        redisRefreshToken.updateToken(tokenDto.getRefreshToken());
-        refreshTokenRepository.save(redisRefreshToken);
+    private RefreshTokenRotation rotate(VerifiedToken verifiedToken, SessionOwner owner, String sessionId,
+            TokenDto tokenDto, long recheckBefore) {
+        AuthPrincipal principal = owner.principal();
+        RefreshSession next = new RefreshSession(
+                sessionId, tokenDto.getRefreshToken(), principal.getRole(), owner.authVersion(), owner.checkedAt());
+        return tokenStore.rotateRefreshToken(verifiedToken, principal.getUsername(), next, tokenDto, recheckBefore);
+    }
 
-        return tokenDto;
+    // member id 가 있으면 PK 조회, 탈퇴한 회원이면 세션을 삭제하고 재발급 거절
+    private SessionOwner loadOwner(VerifiedToken verifiedToken) {
+        Member member;
+        try {
+            member = verifiedToken.getMemberId() != null
+                    ? customUserDetailsService.loadMemberById(verifiedToken.getMemberId())
+                    : customUserDetailsService.loadMemberByEmail(verifiedToken.getSubject());
+        } catch (GeneralException e) {
+            if (e.getCode() != GeneralErrorCode.USER_NOT_FOUND) {
+                throw e;
+            }
+            tokenStore.deleteRefreshSession(verifiedToken.getSubject(), verifiedToken.getSessionId());
+            throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return new SessionOwner(AuthPrincipal.of(member), member.getAuthVersion(), System.currentTimeMillis());
+    }
+
+    // 권한 변경이 커밋된 뒤 Refresh Token 세션의 권한을 갱신 (이미 발급된 Access Token 은 만료 시까지 유지)
+    // 반영에 실패해도 세션을 DB 와 다시 맞춰 보는 주기(session-recheck-interval) 안에는 반영됨
+    @TransactionalEventListener
+    public void onMemberRoleChanged(MemberRoleChangedEvent event) {
+        tokenStore.updateRefreshSession(String.valueOf(event.memberId()), event.role(), event.authVersion());
     }
 
-    @Transactional
     public void logout(String accessToken, String refreshToken) {
         // Bearer 제거
         if (accessToken != null && accessToken.startsWith("Bearer ")) {
             accessToken = accessToken.substring(7);
         }
 
-        // 1. Access Token 검증
-        if (!jwtTokenProvider.validateToken(accessToken)) {
-            throw new GeneralException(AuthErrorCode.AUTH_TOKEN_INVALID);
-        }
-
-        // 2. Access Token 에서 User ID 가져오기
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+        // Access Token 검증
+        logout(jwtTokenProvider.verify(accessToken), refreshToken);
+    }
 
-        // 3. Redis 에서 해당 User ID 로 저장된 Refresh Token 이 있는지 여부를 확인 후 있을 경우 삭제
-        if (refreshTokenRepository.findById(authentication.getName()).isPresent()) {
-            refreshTokenRepository.deleteById(authentication.getName());
+    // Redis 스크립트 한 번으로 처리하므로 트랜잭션(커넥션 획득)을 열지 않음
+    public void logout(VerifiedToken accessToken, String refreshToken) {
+        // 해당 기기(sid)의 Refresh Token 세션 삭제 + Access Token 무효화 (다른 기기의 세션은 유지)
+        // (token: 해당 토큰만 블랙리스트, epoch: 지금까지 발급된 모든 토큰과 모든 기기의 세션)
+        tokenStore.logout(accessToken);
+
+        // 전환 기간(dual-write)에만: member id 형식 이전에 로그인한 email 키 세션도 삭제 (이전 형식 토큰이면 위에서 이미 삭제됨)
+        // 전환 후 남은 email 키 세션은 다음 재발급 때 member id 키로 옮겨지거나 Refresh Token 유효시간이 지나면 만료됨
+        if ("dual-write".equals(legacySession) && accessToken.getMemberId() != null) {
+            memberRepository.findViewById(accessToken.getMemberId())
+                    .ifPresent(member -> tokenStore.deleteRefreshSession(member.email(), null));
         }
-
-        // 4. Access Token 유효시간을 가져와서 BlackList로 저장
-        Long expiration = jwtTokenProvider.getExpiration(accessToken);
-        redisTemplate.opsForValue()
-                .set("blacklist:" + accessToken, "logout", expiration, java.util.concurrent.TimeUnit.MILLISECONDS);
     }
 
     public org.springframework.http.ResponseCookie createRefreshTokenCookie(String refreshToken) {
@@ -95,4 +173,8 @@ public class AuthService {
                 .sameSite("None")
                 .build();
     }
+
+    // checkedAt: 권한/버전을 DB 에서 확인한 시각 (세션에서 가져온 경우 세션에 저장된 값, 토큰 클레임이면 저장된 값 유지)
+    private record SessionOwner(AuthPrincipal principal, long authVersion, long checkedAt) {
+    }
 }
@@ -0,0 +1,78 @@
+package com.myApp.auth.service;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.repository.MemberRepository;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
+import com.myApp.global.apiPayload.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 현재 요청의 로그인 회원입니다.
+ * 처음 {@link #get()} 을 호출할 때 한 번만 조회하고, 같은 요청 안에서는 그 결과를 재사용합니다.
+ * 토큰에 member id 가 있으면 PK 로, 이전 형식(email subject) 토큰이면 email 로 조회합니다.
+ *
+ * <p>컨트롤러에서는 {@code @AuthUser Member} 또는 {@code @AuthUser CurrentMember} 로 받고,
+ * 서비스에서는 주입받아 사용합니다. id 만 필요하면 {@link #getId()} 를 사용하면 조회하지 않습니다.
+ * OSIV(spring.jpa.open-in-view) 가 켜져 있으므로 요청이 끝날 때까지 같은 영속성 컨텍스트의 엔티티로 사용할 수 있습니다.</p>
+ *
+ * <p>readOnly 트랜잭션에서 조회한 엔티티는 영속성 컨텍스트에 읽기 전용으로 남아 이후 트랜잭션에서도 변경이 반영되지 않으므로,
+ * 진행 중인 트랜잭션이 없으면 readOnly 가 아닌 트랜잭션에서 조회합니다.
+ * 처음 호출한 곳이 readOnly 트랜잭션 안이면 읽기 전용으로 조회되므로, 변경할 엔티티는 쓰기 트랜잭션 안에서 받거나
+ * 컨트롤러({@code @AuthUser Member})에서 받아야 합니다.</p>
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentMember {
+
+    private final MemberRepository memberRepository;
+
+    private Member member;
+
+    @Transactional
+    public Member get() {
+        if (member == null) {
+            AuthPrincipal principal = currentPrincipal();
+            member = (principal.getId() != null
+                    ? memberRepository.findById(principal.getId())
+                    : memberRepository.findByEmail(principal.getEmail()))
+                    .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
+        }
+        return member;
+    }
+
+    // 토큰에 member id 가 있으면 조회하지 않음
+    public Long getId() {
+        Long id = currentPrincipal().getId();
+        return id != null ? id : get().getId();
+    }
+
+    /**
+     * SecurityContext 의 인증 정보를 {@link AuthPrincipal} 로 반환합니다.
+     * 인증되지 않은 요청이면 UNAUTHORIZED 예외가 발생합니다.
+     */
+    public static AuthPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // 인증 정보가 없거나 익명 사용자인 경우 예외 발생
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            throw new GeneralException(AuthErrorCode.UNAUTHORIZED);
+        }
+
+        // JWT 인증 시 이미 AuthPrincipal 이므로 그대로 반환, 그 외 UserDetails 는 변환
+        if (!(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            throw new GeneralException(AuthErrorCode.UNAUTHORIZED);
+        }
+        return AuthPrincipal.from(userDetails);
+    }
+}
@@ -1,9 +1,13 @@
 package com.myApp.auth.service;
 
 import com.myApp.auth.entity.Member;
+import com.myApp.auth.event.MemberProfileChangedEvent;
 import com.myApp.auth.repository.MemberRepository;
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
+import com.myApp.global.apiPayload.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -13,14 +17,20 @@ import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
+        public static final String MEMBER_ID_ATTRIBUTE = "memberId";
+        public static final String AUTH_VERSION_ATTRIBUTE = "authVersion";
+
         private final MemberRepository memberRepository;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Setter
         private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
@@ -41,6 +51,12 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 // 이메일을 Principal Name으로 사용하기 위해 attributes에 email 추가 및 nameAttributeKey 변경
                 Map<String, Object> newAttributes = new java.util.HashMap<>(attributes.getAttributes());
                 newAttributes.put("email", attributes.getEmail());
+                // 토큰 subject 로 사용할 member id
+                if (member.getId() != null) {
+                        newAttributes.put(MEMBER_ID_ATTRIBUTE, member.getId());
+                }
+                // Refresh Token 세션에 권한과 함께 저장할 권한 버전
+                newAttributes.put(AUTH_VERSION_ATTRIBUTE, member.getAuthVersion());
 
                 return new DefaultOAuth2User(
                                 Collections.singleton(new SimpleGrantedAuthority(member.getRoleKey())),
@@ -48,11 +64,34 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                                 "email");
         }
 
+        // 대부분의 로그인은 조회 한 번으로 끝남 (이름이 같으면 쓰지 않음)
+        // email 로 찾은 다른 제공자의 회원이면 그 회원의 이름은 바꾸지 않음
         private Member saveOrUpdate(OAuthAttributes attributes) {
-                Member member = memberRepository.findByEmail(attributes.getEmail())
-                                .map(entity -> entity.update(attributes.getName()))
-                                .orElse(attributes.toEntity());
+                Optional<Member> existing = findMember(attributes);
+                if (existing.isPresent() && (existing.get().getName().equals(attributes.getName())
+                                || !isSameSocialAccount(existing.get(), attributes))) {
+                        return existing.get();
+                }
+
+                // 첫 로그인이거나 이름이 바뀐 경우, 동시 첫 로그인도 한 행으로 합쳐짐
+                memberRepository.upsertSocialMember(attributes.getSocialType(), attributes.getSocialId(),
+                                attributes.getEmail(), attributes.getName(), LocalDateTime.now());
+                Member member = findMember(attributes)
+                                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
+
+                // 캐시된 회원 프로필 삭제 (UserProfileCache)
+                eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
+                return member;
+        }
+
+        private boolean isSameSocialAccount(Member member, OAuthAttributes attributes) {
+                return attributes.getSocialType().equals(member.getSocialType())
+                                && attributes.getSocialId().equals(member.getSocialId());
+        }
 
-                return memberRepository.save(member);
+        // 같은 email 로 다른 제공자에서 먼저 가입한 회원이면 그 회원으로 로그인 (기존 동작 유지)
+        private Optional<Member> findMember(OAuthAttributes attributes) {
+                return memberRepository.findBySocialTypeAndSocialId(attributes.getSocialType(), attributes.getSocialId())
+                                .or(() -> memberRepository.findByEmail(attributes.getEmail()));
         }
 }
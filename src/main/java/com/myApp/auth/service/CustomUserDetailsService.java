@@ -1,44 +1,49 @@
 package com.myApp.auth.service;
 
+import com.myApp.auth.dto.AuthPrincipal;
 import com.myApp.auth.entity.Member;
 import com.myApp.auth.repository.MemberRepository;
 import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
+import com.myApp.global.annotation.SingleFlight;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
 
+    // UserDetailsService 구현 (폼/HTTP Basic 로그인을 사용하지 않으므로 현재는 호출되지 않음)
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // username은 소셜로그인 이메일
-        return memberRepository.findByEmail(username)
-                .map(this::createUserDetails)
+        // username은 소셜로그인 이메일, 인증 정보에 필요한 컬럼만 조회
+        return memberRepository.findViewByEmail(username)
+                .map(AuthPrincipal::of)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
     }
 
-    // DB에서 가져온 Member 객체를 Spring Security의 UserDetails 객체로 변환
-    private UserDetails createUserDetails(Member member) {
-        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(member.getRole().toString());
+    // 재발급 시 DB 의 권한/권한 버전이 필요한 경우
+    // (권한 클레임이 없는 이전 토큰의 세션에 권한이 없거나 확인한 지 오래됨, 토큰 발급 후 권한 변경, DB 재확인 주기 경과)
+    // 같은 회원의 동시 재발급은 한 번만 DB 조회, 반환한 Member 는 트랜잭션이 끝난 준영속 엔티티이며 호출하는 쪽은 읽기만 함
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Member loadMemberById(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
+    }
 
-        return new User(
-                String.valueOf(member.getEmail()),
-                "", // 소셜로그인만 구현 -> 임의값
-                Collections.singleton(grantedAuthority)
-        );
+    // 이전 형식(email subject) 토큰
+    @SingleFlight
+    @Transactional(readOnly = true)
+    public Member loadMemberByEmail(String email) {
+        return memberRepository.findByEmail(email)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
     }
 }
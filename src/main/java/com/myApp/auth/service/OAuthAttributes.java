@@ -1,7 +1,5 @@
 package com.myApp.auth.service;
 
-import com.myApp.auth.entity.Role;
-import com.myApp.auth.entity.Member;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -75,14 +73,4 @@ public class OAuthAttributes {
                 .nameAttributeKey(userNameAttributeName)
                 .build();
     }
-
-    public Member toEntity() {
-        return Member.builder()
-                .name(name)
-                .email(email)
-                .role(Role.USER)
-                .socialType(socialType)
-                .socialId(socialId)
-                .build();
-    }
 }
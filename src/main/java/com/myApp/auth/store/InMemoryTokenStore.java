@@ -0,0 +1,264 @@
+package com.myApp.auth.store;
+
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.redis.RevocationStrategy;
+import com.myApp.global.common.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부에 보관하는 {@link TokenStore} 입니다.
+ * Redis 왕복 없이 동작하므로 단일 노드/엣지 배포나 Redis 없는 통합 테스트에 사용합니다.
+ * 노드 간에 공유되지 않으므로 여러 노드로 배포할 때는 사용하면 안 됩니다.
+ *
+ * <p>엔트리는 {@link TimingWheel} 로 만료 시각에 제거하고, 조회 시에도 만료 여부를 확인합니다.
+ * 엔트리마다 만료 예약을 하나씩 들고 있다가 덮어쓰거나 삭제할 때 취소하므로, 예약 수는 엔트리 수를 넘지 않습니다.
+ * 회원의 세션 목록은 세션이 만료/삭제될 때 함께 정리합니다.
+ * 무효화 방식(spring.jwt.revocation.strategy)은 Redis 구현과 같은 의미로 동작합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = TokenStore.PROPERTY, havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+
+    // 만료 판정은 조회 시점에 하므로 제거 주기는 거칠어도 됨
+    private static final long EXPIRY_TICK_MILLIS = 1000;
+
+    private final long refreshTokenValidityInMilliseconds;
+    private final long accessTokenValidityInMilliseconds;
+    private final long reissueGracePeriodInMilliseconds;
+    private final boolean epochStrategy;
+
+    private final int maxSessionsPerMember;
+
+    private final Map<String, Entry<RefreshSession>> refreshSessions = new ConcurrentHashMap<>(); // subject:세션 ID -> 세션
+    private final Map<String, Map<String, Long>> sessionIndex = new HashMap<>(); // subject -> 세션 ID -> 마지막 사용 시각
+    private final Map<String, Entry<String>> revokedTokens = new ConcurrentHashMap<>();   // revocationId -> "logout"
+    private final Map<String, Entry<String>> revocationEpochs = new ConcurrentHashMap<>(); // subject -> 기준 시각(epoch millis)
+    private final Map<String, Entry<TokenDto>> reissued = new ConcurrentHashMap<>(); // 교체된 토큰 ID -> 새 토큰 쌍
+    private final TimingWheel timingWheel;
+
+    public InMemoryTokenStore(
+            @Value("${spring.jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
+            @Value("${spring.jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${spring.jwt.reissue-grace-period-in-seconds:5}") long reissueGracePeriodInSeconds,
+            @Value("${spring.jwt.max-sessions-per-member:5}") int maxSessionsPerMember,
+            @Value("${" + RevocationStrategy.PROPERTY + ":token}") String revocationStrategy) {
+        this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.reissueGracePeriodInMilliseconds = reissueGracePeriodInSeconds * 1000;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+        this.epochStrategy = "epoch".equals(revocationStrategy);
+        this.timingWheel = new TimingWheel("token-store-expiry", EXPIRY_TICK_MILLIS);
+    }
+
+    @Override
+    public Optional<RefreshSession> findRefreshSession(String subject, String sessionId) {
+        return Optional.ofNullable(get(refreshSessions, sessionKey(subject, sessionId)));
+    }
+
+    @Override
+    public synchronized void saveRefreshSession(String subject, RefreshSession session) {
+        putRefreshSession(subject, session, refreshTokenValidityInMilliseconds);
+        if (session.sessionId() == null) {
+            return;
+        }
+
+        Map<String, Long> sessions = sessionIndex.computeIfAbsent(subject, ignored -> new HashMap<>());
+        sessions.put(session.sessionId(), System.currentTimeMillis());
+        // 만료된 세션은 목록에서 빼고, 최대 수를 넘으면 가장 오래 사용하지 않은 세션부터 삭제
+        sessions.keySet().removeIf(sessionId -> get(refreshSessions, sessionKey(subject, sessionId)) == null);
+        while (sessions.size() > maxSessionsPerMember) {
+            String oldest = Collections.min(sessions.entrySet(), Map.Entry.comparingByValue()).getKey();
+            sessions.remove(oldest);
+            remove(refreshSessions, sessionKey(subject, oldest));
+        }
+    }
+
+    // 만료되면 세션 목록에서도 빠지도록 만료 작업을 지정해서 저장
+    private void putRefreshSession(String subject, RefreshSession session, long ttlMillis) {
+        put(refreshSessions, sessionKey(subject, session.sessionId()), session, ttlMillis,
+                () -> expireRefreshSession(subject, session.sessionId()));
+    }
+
+    @Override
+    public synchronized void deleteRefreshSession(String subject, String sessionId) {
+        remove(refreshSessions, sessionKey(subject, sessionId));
+        removeFromSessionIndex(subject, sessionId);
+    }
+
+    @Override
+    public synchronized RefreshTokenRotation rotateRefreshToken(VerifiedToken presented, String newSubject,
+            RefreshSession next, TokenDto issued, long recheckBefore) {
+        String key = sessionKey(presented.getSubject(), presented.getSessionId());
+        RefreshSession current = get(refreshSessions, key);
+        if (current == null) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        if (!current.token().equals(presented.getToken())) {
+            return RefreshTokenRotation.MISMATCH;
+        }
+        if (current.version() > next.version()) {
+            return RefreshTokenRotation.STALE;
+        }
+        if (next.checkedAt() == RefreshSession.KEEP_CHECKED_AT) {
+            if (current.checkedAt() < recheckBefore) {
+                return RefreshTokenRotation.RECHECK;
+            }
+            next = new RefreshSession(next.sessionId(), next.token(), next.role(), next.version(), current.checkedAt());
+        }
+
+        // 세션 ID 가 없는 이전 세션은 기기별 세션으로 옮김
+        remove(refreshSessions, key);
+        saveRefreshSession(newSubject, next);
+
+        if (reissueGracePeriodInMilliseconds > 0) {
+            put(reissued, presented.getRevocationId(), issued, reissueGracePeriodInMilliseconds);
+        }
+        return RefreshTokenRotation.ROTATED;
+    }
+
+    @Override
+    public synchronized void updateRefreshSession(String subject, Role role, long authVersion) {
+        long now = System.currentTimeMillis();
+        updateRefreshSession(subject, null, role, authVersion, now);
+        for (String sessionId : sessionIndex.getOrDefault(subject, Map.of()).keySet()) {
+            updateRefreshSession(subject, sessionId, role, authVersion, now);
+        }
+    }
+
+    private void updateRefreshSession(String subject, String sessionId, Role role, long authVersion, long now) {
+        Entry<RefreshSession> entry = refreshSessions.get(sessionKey(subject, sessionId));
+        if (entry == null || entry.value().version() >= authVersion) {
+            return;
+        }
+        // 남은 만료 시간은 그대로 유지
+        RefreshSession session = entry.value();
+        putRefreshSession(subject,
+                new RefreshSession(session.sessionId(), session.token(), role, authVersion, session.checkedAt()),
+                entry.expiresAt() - now);
+    }
+
+    private synchronized void expireRefreshSession(String subject, String sessionId) {
+        if (removeExpired(refreshSessions, sessionKey(subject, sessionId))) {
+            removeFromSessionIndex(subject, sessionId);
+        }
+    }
+
+    // 세션이 모두 없어진 회원은 목록에서 제거
+    private void removeFromSessionIndex(String subject, String sessionId) {
+        Map<String, Long> sessions = sessionIndex.get(subject);
+        if (sessionId == null || sessions == null) {
+            return;
+        }
+        sessions.remove(sessionId);
+        if (sessions.isEmpty()) {
+            sessionIndex.remove(subject);
+        }
+    }
+
+    private static String sessionKey(String subject, String sessionId) {
+        return sessionId == null ? subject : subject + ":" + sessionId;
+    }
+
+    @Override
+    public Optional<TokenDto> findReissued(VerifiedToken presented) {
+        return Optional.ofNullable(get(reissued, presented.getRevocationId()));
+    }
+
+    @Override
+    public void logout(VerifiedToken accessToken) {
+        if (epochStrategy) {
+            // 모든 토큰을 무효화하므로 다른 기기의 세션도 함께 삭제 (남겨 두면 다른 기기에서 계속 재발급됨)
+            deleteRefreshSessions(accessToken.getSubject());
+        } else {
+            deleteRefreshSession(accessToken.getSubject(), accessToken.getSessionId());
+        }
+        revoke(accessToken);
+    }
+
+    private synchronized void deleteRefreshSessions(String subject) {
+        remove(refreshSessions, sessionKey(subject, null));
+        Map<String, Long> sessions = sessionIndex.remove(subject);
+        if (sessions != null) {
+            sessions.keySet().forEach(sessionId -> remove(refreshSessions, sessionKey(subject, sessionId)));
+        }
+    }
+
+    @Override
+    public void revoke(VerifiedToken accessToken) {
+        if (epochStrategy) {
+            String epoch = String.valueOf(System.currentTimeMillis());
+            put(revocationEpochs, accessToken.getSubject(), epoch, accessTokenValidityInMilliseconds);
+            return;
+        }
+
+        long remainingMillis = accessToken.getRemainingMillis();
+        if (remainingMillis > 0) {
+            put(revokedTokens, accessToken.getRevocationId(), "logout", remainingMillis);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(VerifiedToken accessToken) {
+        if (epochStrategy) {
+            String epoch = get(revocationEpochs, accessToken.getSubject());
+            return epoch != null && accessToken.getIssuedAt() <= Long.parseLong(epoch);
+        }
+        return get(revokedTokens, accessToken.getRevocationId()) != null;
+    }
+
+    private <V> void put(Map<String, Entry<V>> map, String key, V value, long ttlMillis) {
+        put(map, key, value, ttlMillis, () -> removeExpired(map, key));
+    }
+
+    // 덮어쓴 엔트리의 만료 예약은 취소하여 키당 예약이 하나만 남도록 함
+    private <V> void put(Map<String, Entry<V>> map, String key, V value, long ttlMillis, Runnable onExpired) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        TimingWheel.Timeout expiry = timingWheel.schedule(expiresAt, onExpired);
+        cancelExpiry(map.put(key, new Entry<>(value, expiresAt, expiry)));
+    }
+
+    private <V> void remove(Map<String, Entry<V>> map, String key) {
+        cancelExpiry(map.remove(key));
+    }
+
+    private static void cancelExpiry(Entry<?> entry) {
+        if (entry != null) {
+            entry.expiry().cancel();
+        }
+    }
+
+    // 그 사이 같은 키로 새로 저장된(아직 만료되지 않은) 엔트리는 지우지 않음
+    private <V> boolean removeExpired(Map<String, Entry<V>> map, String key) {
+        Entry<V> entry = map.get(key);
+        return entry != null && entry.expiresAt() <= System.currentTimeMillis() && map.remove(key, entry);
+    }
+
+    // 타이밍 휠은 tick 단위로 제거하므로, 조회 시점에 만료된 엔트리는 없는 것으로 취급
+    private <V> V get(Map<String, Entry<V>> map, String key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    @PreDestroy
+    public void close() {
+        timingWheel.close();
+    }
+
+    private record Entry<V>(V value, long expiresAt, TimingWheel.Timeout expiry) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.myApp.auth.store;
+
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.redis.RevocationEntry;
+import com.myApp.auth.redis.RevocationStrategy;
+import com.myApp.auth.repository.RefreshTokenRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 를 사용하는 {@link TokenStore} 입니다.
+ * Refresh Token 은 {@link RefreshTokenRepository}, 무효화는 선택된 {@link RevocationStrategy} 에 위임합니다.
+ *
+ * <p>재발급(교체)과 로그아웃은 Lua 스크립트로 한 번의 왕복에 원자적으로 처리합니다.
+ * 스크립트는 Repository 와 같은 기기별 세션 hash 와 회원의 세션 목록(zset)을 사용합니다.
+ * 세션 키와 무효화 키를 함께 다루므로 Redis Cluster 에서는 사용할 수 없습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = TokenStore.PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisTokenStore implements TokenStore {
+
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+    private static final RedisScript<Long> LOGOUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/logout.lua"), Long.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevocationStrategy revocationStrategy;
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTokenStore(RefreshTokenRepository refreshTokenRepository, RevocationStrategy revocationStrategy,
+            StringRedisTemplate redisTemplate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationStrategy = revocationStrategy;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<RefreshSession> findRefreshSession(String subject, String sessionId) {
+        return refreshTokenRepository.findSession(subject, sessionId);
+    }
+
+    @Override
+    public void saveRefreshSession(String subject, RefreshSession session) {
+        refreshTokenRepository.save(subject, session);
+    }
+
+    @Override
+    public void deleteRefreshSession(String subject, String sessionId) {
+        refreshTokenRepository.delete(subject, sessionId);
+    }
+
+    @Override
+    public RefreshTokenRotation rotateRefreshToken(VerifiedToken presented, String newSubject, RefreshSession next,
+            TokenDto issued, long recheckBefore) {
+        String subject = presented.getSubject();
+        String sessionKey = RefreshTokenRepository.keyOf(subject, presented.getSessionId());
+        // 세션 ID 가 있는 세션은 이전 형식 키를 확인하지 않음
+        String legacySessionKey = presented.getSessionId() == null
+                ? RefreshTokenRepository.legacyKeyOf(subject) : sessionKey;
+
+        List<String> keys = new ArrayList<>(List.of(sessionKey,
+                RefreshTokenRepository.keyOf(newSubject, next.sessionId()), legacySessionKey,
+                RefreshTokenRepository.graceKeyOf(subject, presented.getRevocationId()),
+                RefreshTokenRepository.sessionsKeyOf(newSubject)));
+        // 이전 버전 노드와 함께 운영하는 동안에는 새 토큰을 이전 형식 키에도 기록
+        if (refreshTokenRepository.isLegacyDualWrite()) {
+            keys.add(RefreshTokenRepository.legacyKeyOf(newSubject));
+        }
+
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, keys,
+                presented.getToken(), next.token(), String.valueOf(refreshTokenRepository.getTtlMillis()),
+                String.valueOf(refreshTokenRepository.getGracePeriodMillis()), issued.getAccessToken(),
+                String.valueOf(issued.getAccessTokenExpiresIn()), next.role().getCode(),
+                String.valueOf(next.version()), next.sessionId(), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(refreshTokenRepository.getMaxSessionsPerMember()),
+                RefreshTokenRepository.sessionKeyPrefixOf(newSubject), newSubject, String.valueOf(next.checkedAt()),
+                String.valueOf(recheckBefore));
+
+        if (result == null || result == 0) {
+            return RefreshTokenRotation.NOT_FOUND;
+        }
+        if (result == -2) {
+            return RefreshTokenRotation.STALE;
+        }
+        if (result == -3) {
+            return RefreshTokenRotation.RECHECK;
+        }
+        return result > 0 ? RefreshTokenRotation.ROTATED : RefreshTokenRotation.MISMATCH;
+    }
+
+    @Override
+    public void updateRefreshSession(String subject, Role role, long authVersion) {
+        refreshTokenRepository.updateRole(subject, role, authVersion);
+    }
+
+    @Override
+    public Optional<TokenDto> findReissued(VerifiedToken presented) {
+        return refreshTokenRepository.findReissued(presented.getSubject(), presented.getRevocationId());
+    }
+
+    @Override
+    public void logout(VerifiedToken accessToken) {
+        String subject = accessToken.getSubject();
+        String sessionId = accessToken.getSessionId();
+        String sessionKey = RefreshTokenRepository.keyOf(subject, sessionId);
+        String legacySessionKey = RefreshTokenRepository.legacyKeyOf(subject);
+        String sessionsKey = RefreshTokenRepository.sessionsKeyOf(subject);
+        // 세션 ID 가 없는 토큰이면 이전 형식 세션도 삭제, 있으면 이전 형식 키에 이 세션을 함께 기록해 둔 경우에만 삭제
+        List<String> keys = List.of(sessionKey, legacySessionKey, sessionsKey);
+        String member = sessionId == null ? "" : sessionId;
+        // 모든 토큰을 무효화하는 방식이면 다른 기기의 세션도 함께 삭제 (남겨 두면 다른 기기에서 계속 재발급됨)
+        String allSessionsPrefix = revocationStrategy.revokesAllSessions()
+                ? RefreshTokenRepository.sessionKeyPrefixOf(subject) : "";
+        RevocationEntry entry = revocationStrategy.entryOf(accessToken);
+
+        if (entry == null) {
+            redisTemplate.execute(LOGOUT_SCRIPT, keys, member, allSessionsPrefix);
+        } else {
+            List<String> keysWithEntry = new ArrayList<>(keys);
+            keysWithEntry.add(entry.key());
+            redisTemplate.execute(LOGOUT_SCRIPT, keysWithEntry, member, allSessionsPrefix, entry.value(),
+                    String.valueOf(entry.ttlMillis()), entry.channel(), entry.message());
+        }
+        revocationStrategy.afterRevoked(accessToken);
+    }
+
+    @Override
+    public void revoke(VerifiedToken accessToken) {
+        revocationStrategy.revoke(accessToken);
+    }
+
+    @Override
+    public boolean isRevoked(VerifiedToken accessToken) {
+        return revocationStrategy.isRevoked(accessToken);
+    }
+}
@@ -0,0 +1,12 @@
+package com.myApp.auth.store;
+
+/**
+ * {@link TokenStore#rotateRefreshToken} 결과입니다.
+ */
+public enum RefreshTokenRotation {
+    ROTATED,
+    NOT_FOUND,  // 저장된 세션 없음 (로그아웃/만료)
+    MISMATCH,   // 이미 교체된 토큰 또는 다른 토큰
+    STALE,      // 토큰을 발급한 뒤 권한이 바뀜 (DB 에서 다시 조회하여 재시도)
+    RECHECK     // 세션의 권한을 DB 에서 확인한 지 오래됨 (DB 에서 다시 조회하여 재시도)
+}
@@ -0,0 +1,62 @@
+package com.myApp.auth.store;
+
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+
+import java.util.Optional;
+
+/**
+ * Refresh Token 과 Access Token 무효화 정보를 보관하는 저장소입니다.
+ * spring.jwt.token-store 값에 따라 하나의 구현만 등록됩니다.
+ *
+ * <ul>
+ *     <li>redis (기본값): 여러 노드가 공유하는 Redis 저장소 ({@link RedisTokenStore})</li>
+ *     <li>memory: Redis 없이 프로세스 내부에 보관 ({@link InMemoryTokenStore}), 단일 노드 배포와 테스트용</li>
+ * </ul>
+ */
+public interface TokenStore {
+
+    String PROPERTY = "spring.jwt.token-store";
+
+    // subject: member id (이전 형식은 email), sessionId: 기기별 세션 ID (sid 클레임이 없는 토큰은 null)
+    Optional<RefreshSession> findRefreshSession(String subject, String sessionId);
+
+    default Optional<String> findRefreshToken(String subject, String sessionId) {
+        return findRefreshSession(subject, sessionId).map(RefreshSession::token);
+    }
+
+    // 로그인한 기기의 세션 추가, 회원의 세션이 최대 수를 넘으면 가장 오래 사용하지 않은 세션부터 삭제
+    void saveRefreshSession(String subject, RefreshSession session);
+
+    void deleteRefreshSession(String subject, String sessionId);
+
+    /**
+     * presented 의 세션에 저장된 Refresh Token 이 presented 와 같을 때만 next 로 교체합니다 (compare-and-swap).
+     * 동시에 같은 토큰으로 재발급하면 하나만 ROTATED 를 받고, 나머지는 {@link #findReissued} 로 같은 토큰 쌍을 받습니다.
+     * 세션 ID 가 없는 이전 세션(이전 형식 email 키 포함)은 newSubject 의 기기별 세션으로 옮겨집니다.
+     * 세션의 권한 버전이 next 의 버전보다 새로우면 (토큰을 발급한 뒤 권한이 바뀜) 교체하지 않고 STALE 을 반환합니다.
+     * next 의 확인 시각이 {@link RefreshSession#KEEP_CHECKED_AT} 이면 저장된 확인 시각을 유지하고,
+     * 그 시각이 recheckBefore 보다 이전이면 교체하지 않고 RECHECK 를 반환합니다.
+     *
+     * @param issued        새로 발급한 토큰 쌍 (유예 기간 동안 동시 요청에 돌려줄 값)
+     * @param recheckBefore 이 시각(epoch ms) 전에 DB 에서 확인한 세션은 다시 확인
+     */
+    RefreshTokenRotation rotateRefreshToken(VerifiedToken presented, String newSubject, RefreshSession next,
+            TokenDto issued, long recheckBefore);
+
+    // 회원의 모든 세션의 권한을 갱신 (authVersion 이 저장된 버전보다 새로울 때만)
+    void updateRefreshSession(String subject, Role role, long authVersion);
+
+    // presented 로 유예 기간 안에 교체되어 발급된 토큰 쌍
+    Optional<TokenDto> findReissued(VerifiedToken presented);
+
+    // 해당 기기의 Refresh Token 세션 삭제와 Access Token 무효화를 함께 수행
+    void logout(VerifiedToken accessToken);
+
+    // 로그아웃한 Access Token 무효화 (방식은 spring.jwt.revocation.strategy)
+    void revoke(VerifiedToken accessToken);
+
+    boolean isRevoked(VerifiedToken accessToken);
+}
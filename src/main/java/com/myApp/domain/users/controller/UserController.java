@@ -1,14 +1,13 @@
 package com.myApp.domain.users.controller;
 
 import com.myApp.auth.annotation.AuthUser;
-import com.myApp.auth.annotation.CheckBlacklist;
+import com.myApp.auth.dto.AuthPrincipal;
 import com.myApp.domain.users.dto.UserResponseDto;
 import com.myApp.domain.users.service.UserService;
 import com.myApp.global.apiPayload.ApiResponse;
 import com.myApp.global.apiPayload.code.status.GeneralSuccessCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,8 +21,11 @@ public class UserController implements UserControllerDocs{
     private final UserService userService;
 
     @GetMapping("/me")
-    public ApiResponse<UserResponseDto> getMyInfo(@AuthUser UserDetails userDetails) {
-        UserResponseDto myInfo = userService.getMyInfo(userDetails.getUsername());
+    public ApiResponse<UserResponseDto> getMyInfo(@AuthUser AuthPrincipal principal) {
+        // member id 를 담은 토큰이면 PK 조회, 이전 형식 토큰이면 email 조회
+        UserResponseDto myInfo = principal.getId() != null
+                ? userService.getUser(principal.getId())
+                : userService.getMyInfo(principal.getEmail());
         return ApiResponse.onSuccess(GeneralSuccessCode._OK, myInfo);
     }
 
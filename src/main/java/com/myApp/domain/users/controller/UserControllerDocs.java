@@ -1,17 +1,17 @@
 package com.myApp.domain.users.controller;
 
+import com.myApp.auth.dto.AuthPrincipal;
 import com.myApp.domain.users.dto.UserResponseDto;
 import com.myApp.global.apiPayload.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PathVariable;
 
 @Tag(name = "User", description = "유저 관련 API")
 public interface UserControllerDocs {
     @Operation(summary = "내 정보", description = "로그인한 사용자의 정보를 가져옵니다")
-    ApiResponse<UserResponseDto> getMyInfo(@AuthenticationPrincipal UserDetails userDetails);
+    ApiResponse<UserResponseDto> getMyInfo(@Parameter(hidden = true) AuthPrincipal principal);
 
     @Operation(summary = "사용자 조회", description = "특정 사용자의 정보를 가져옵니다")
     ApiResponse<UserResponseDto> getUser(@PathVariable Long userId);
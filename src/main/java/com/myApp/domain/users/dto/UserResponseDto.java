@@ -1,5 +1,6 @@
 package com.myApp.domain.users.dto;
 
+import com.myApp.auth.dto.MemberView;
 import com.myApp.auth.entity.Role;
 import com.myApp.auth.entity.Member;
 import lombok.AllArgsConstructor;
@@ -28,4 +29,14 @@ public class UserResponseDto {
                 .socialType(member.getSocialType())
                 .build();
     }
+
+    public static UserResponseDto from(MemberView member) {
+        return UserResponseDto.builder()
+                .id(member.id())
+                .name(member.name())
+                .email(member.email())
+                .role(member.role())
+                .socialType(member.socialType())
+                .build();
+    }
 }
@@ -0,0 +1,247 @@
+package com.myApp.domain.users.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myApp.auth.event.MemberProfileChangedEvent;
+import com.myApp.auth.event.MemberRoleChangedEvent;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.domain.users.dto.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 회원 프로필({@link UserResponseDto}) 2단계 캐시입니다.
+ * 노드 로컬(Caffeine) → Redis("user-profile:{id}", JSON) → DB 순서로 조회하고, 아래 단계에서 읽은 값은 위 단계에 채웁니다.
+ * 이메일 조회(이전 형식 토큰)는 "user-profile-email:{email}" 로 회원 id 를 찾은 뒤 id 로 조회합니다.
+ * 회원의 이메일은 바뀌지 않으므로 프로필이 바뀌어도 이 매핑은 지우지 않고, 로컬/Redis 모두 redis-ttl 이 지나면 만료됩니다.
+ *
+ * <p>Redis/DB 조회는 캐시 잠금 밖에서 요청한 스레드가 수행합니다. 같은 회원을 동시에 조회한 요청은 그 결과(future)를 기다리고,
+ * 다른 회원의 조회는 막지 않습니다 (잠금 안에서 I/O 를 하지 않으므로 가상 스레드도 고정되지 않음).</p>
+ *
+ * <p>프로필이나 권한이 바뀌면 커밋 후 Redis 값을 지우고 Redis pub/sub 으로 모든 노드의 로컬 엔트리를 지웁니다.
+ * 변경 직전에 DB 에서 읽은 값이 삭제 이후 Redis 에 다시 쓰일 수 있으므로, Redis 값은 redis-ttl 동안만 유지합니다.
+ * Refresh/무효화 저장소가 memory(단일 노드)이면 Redis 단계 없이 로컬 캐시만 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class UserProfileCache implements MessageListener {
+
+    public static final String CHANNEL = "user-profile";
+    private static final String KEY_PREFIX = "user-profile:";
+    private static final String EMAIL_KEY_PREFIX = "user-profile-email:";
+    private static final String CACHE_NAME = "user.profile";
+    private static final String LOAD_METRIC_NAME = "user.profile.load";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    // 비활성화 시 null
+    private final AsyncCache<Long, UserResponseDto> profiles;
+    private final Cache<String, Long> memberIds; // email -> 회원 id
+
+    // 로컬 캐시에 없을 때 어느 단계에서 읽었는지와 걸린 시간
+    private final Timer redisLoadTimer;
+    private final Timer databaseLoadTimer;
+
+    public UserProfileCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${spring.user-profile-cache.enabled:false}") boolean enabled,
+            @Value("${spring.user-profile-cache.maximum-size:10000}") long maximumSize,
+            @Value("${spring.user-profile-cache.local-ttl:1m}") Duration localTtl,
+            @Value("${spring.user-profile-cache.redis-ttl:10m}") Duration redisTtl,
+            @Value("${" + TokenStore.PROPERTY + ":redis}") String tokenStore) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = "redis".equals(tokenStore);
+        this.redisTtl = redisTtl;
+        // pub/sub 메시지를 놓친 경우에도 localTtl 이후에는 Redis/DB 값으로 맞춰짐
+        this.profiles = enabled ? newCacheBuilder(maximumSize, localTtl).buildAsync() : null;
+        this.memberIds = enabled ? newCacheBuilder(maximumSize, redisTtl).build() : null;
+
+        this.redisLoadTimer = Timer.builder(LOAD_METRIC_NAME).tag("source", "redis").register(meterRegistry);
+        this.databaseLoadTimer = Timer.builder(LOAD_METRIC_NAME).tag("source", "db").register(meterRegistry);
+        if (profiles != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+        }
+    }
+
+    private static Caffeine<Object, Object> newCacheBuilder(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats();
+    }
+
+    /**
+     * 회원 id 로 프로필을 조회합니다. 캐시에 없으면 loader 로 DB 에서 읽습니다.
+     * 같은 회원을 동시에 조회하면 한 요청만 아래 단계를 조회하고 나머지는 그 결과를 기다립니다.
+     */
+    public UserResponseDto getById(Long memberId, Function<Long, UserResponseDto> loader) {
+        if (profiles == null) {
+            return loader.apply(memberId);
+        }
+
+        // 캐시 잠금 안에서는 빈 future 만 등록하고, 등록한 요청이 잠금 밖에서 조회하여 완료
+        CompletableFuture<UserResponseDto> created = new CompletableFuture<>();
+        CompletableFuture<UserResponseDto> profile = profiles.get(memberId, (id, executor) -> created);
+        if (profile == created) {
+            try {
+                created.complete(load(memberId, loader));
+            } catch (RuntimeException e) {
+                // 실패한 future 는 캐시에서 제거되므로 다음 요청이 다시 조회
+                created.completeExceptionally(e);
+            }
+        }
+        return join(profile);
+    }
+
+    // 조회한 요청의 예외를 그대로 전달 (예: 회원 없음)
+    private static UserResponseDto join(CompletableFuture<UserResponseDto> profile) {
+        try {
+            return profile.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 이메일로 프로필을 조회합니다. 회원 id 를 알고 있으면 {@link #getById} 와 같은 캐시를 사용합니다.
+     */
+    public UserResponseDto getByEmail(String email, Function<String, UserResponseDto> loader) {
+        if (profiles == null) {
+            return loader.apply(email);
+        }
+
+        // 이전 형식 토큰만 사용하므로 동시 조회를 합치지 않고 잠금 밖에서 Redis 를 조회
+        Long memberId = memberIds.getIfPresent(email);
+        if (memberId == null) {
+            memberId = findMemberId(email);
+            if (memberId != null) {
+                memberIds.put(email, memberId);
+            }
+        }
+        if (memberId != null) {
+            return getById(memberId, ignored -> loader.apply(email));
+        }
+
+        UserResponseDto profile = databaseLoadTimer.record(() -> loader.apply(email));
+        memberIds.put(email, profile.getId());
+        if (redisEnabled) {
+            runIgnoringRedisFailure(() -> redisTemplate.opsForValue()
+                    .set(EMAIL_KEY_PREFIX + email, String.valueOf(profile.getId()), redisTtl));
+        }
+        return profile;
+    }
+
+    // 커밋 후 실행, 트랜잭션 밖에서 발행되면 바로 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        evict(event.memberId());
+    }
+
+    // 프로필에 권한도 포함되어 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRoleChanged(MemberRoleChangedEvent event) {
+        evict(event.memberId());
+    }
+
+    public void evict(Long memberId) {
+        if (profiles == null) {
+            return;
+        }
+        profiles.synchronous().invalidate(memberId);
+        if (redisEnabled) {
+            runIgnoringRedisFailure(() -> {
+                redisTemplate.delete(KEY_PREFIX + memberId);
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(memberId));
+            });
+        }
+    }
+
+    // 다른 노드(자기 자신 포함)에서 프로필이 바뀜
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (profiles != null) {
+            profiles.synchronous().invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    private UserResponseDto load(Long memberId, Function<Long, UserResponseDto> loader) {
+        if (redisEnabled) {
+            UserResponseDto cached = redisLoadTimer.record(() -> findInRedis(memberId));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        UserResponseDto profile = databaseLoadTimer.record(() -> loader.apply(memberId));
+        if (redisEnabled) {
+            runIgnoringRedisFailure(() -> redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + memberId, toJson(profile), redisTtl));
+        }
+        return profile;
+    }
+
+    // Redis 장애나 형식이 다른 값이면 null (DB 에서 읽음)
+    private UserResponseDto findInRedis(Long memberId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            return json != null ? objectMapper.readValue(json, UserResponseDto.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 프로필 캐시를 읽지 못했습니다. (memberId: {})", memberId, e);
+            return null;
+        }
+    }
+
+    private Long findMemberId(String email) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String memberId = redisTemplate.opsForValue().get(EMAIL_KEY_PREFIX + email);
+            return memberId != null ? Long.valueOf(memberId) : null;
+        } catch (DataAccessException e) {
+            log.warn("회원 프로필 캐시를 읽지 못했습니다. (email: {})", email, e);
+            return null;
+        }
+    }
+
+    private String toJson(UserResponseDto profile) {
+        try {
+            return objectMapper.writeValueAsString(profile);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 쓰기/삭제 실패로 요청을 실패시키지 않음 (Redis 값은 redis-ttl 이후 만료됨)
+    private void runIgnoringRedisFailure(Runnable command) {
+        try {
+            command.run();
+        } catch (DataAccessException e) {
+            log.warn("회원 프로필 캐시를 갱신하지 못했습니다.", e);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package com.myApp.domain.users.service;
 
 import com.myApp.domain.users.dto.UserResponseDto;
 import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.event.MemberRoleChangedEvent;
 import com.myApp.auth.repository.MemberRepository;
 import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
+import com.myApp.global.annotation.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -15,16 +20,38 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserProfileCache userProfileCache;
 
+    // 캐시에 없을 때만 DB 조회 (UserProfileCache), 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    // 조회는 응답에 필요한 컬럼만 select (엔티티를 영속성 컨텍스트에 올리지 않음)
+    // 캐시를 끈 경우에도 같은 회원의 동시 조회는 한 번만 실행 (@SingleFlight)
+    @SingleFlight
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto getUser(Long userId) {
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
-        return UserResponseDto.from(member);
+        return userProfileCache.getById(userId, id -> UserResponseDto.from(memberRepository.findViewById(id)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND))));
     }
 
+    @SingleFlight
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto getMyInfo(String email) {
-        Member member = memberRepository.findByEmail(email)
+        return userProfileCache.getByEmail(email, key -> UserResponseDto.from(memberRepository.findViewByEmail(key)
+                .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND))));
+    }
+
+    // 권한 변경은 커밋 후 Refresh Token 세션과 회원 프로필 캐시에도 반영됨 (AuthService#onMemberRoleChanged, UserProfileCache)
+    @Transactional
+    public UserResponseDto changeRole(Long userId, Role role) {
+        Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
+
+        long authVersion = member.getAuthVersion();
+        member.changeRole(role);
+        if (member.getAuthVersion() != authVersion) {
+            eventPublisher.publishEvent(
+                    new MemberRoleChangedEvent(member.getId(), member.getRole(), member.getAuthVersion()));
+        }
         return UserResponseDto.from(member);
     }
 }
@@ -0,0 +1,18 @@
+package com.myApp.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 하나로 합칩니다 (SingleFlightAspect).
+ * 인자는 equals/hashCode 로 비교하며, 반환값은 여러 호출이 함께 사용하므로 불변 객체여야 합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    // 메트릭 name 태그 (기본값: 클래스명.메서드명)
+    String value() default "";
+}
@@ -0,0 +1,81 @@
+package com.myApp.global.apiPayload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myApp.global.apiPayload.code.status.BaseCode;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실패 응답 본문을 ObjectMapper 없이 직접 응답 스트림에 작성합니다.
+ * {@link ApiResponse.Body} 와 같은 JSON 을 만들되, {@link BaseCode} 별로 고정된 앞부분은 미리 인코딩해 두고
+ * timestamp 만 끼워 넣습니다. 보안 필터, AuthenticationEntryPoint, ExceptionAdvice 에서 사용합니다.
+ */
+public final class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    // 문자열 escape 용도로만 사용
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // {"isSuccess":false,"code":"...","message":"...","result":null,"timestamp":"
+    private static final Map<BaseCode, byte[]> PREFIXES = new ConcurrentHashMap<>();
+
+    // 같은 초 안에서는 timestamp 바이트 재사용
+    private static volatile Timestamp timestamp = new Timestamp(LocalDateTime.MIN, new byte[0]);
+
+    private ErrorResponseWriter() {
+    }
+
+    public static void write(HttpServletResponse response, BaseCode code) throws IOException {
+        byte[] prefix = PREFIXES.computeIfAbsent(code, ErrorResponseWriter::encodePrefix);
+        byte[] time = currentTimestamp();
+
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + time.length + SUFFIX.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(time);
+        out.write(SUFFIX);
+        out.flush();
+    }
+
+    private static byte[] encodePrefix(BaseCode code) {
+        try {
+            String prefix = "{\"isSuccess\":false"
+                    + ",\"code\":" + OBJECT_MAPPER.writeValueAsString(code.getCode())
+                    + ",\"message\":" + OBJECT_MAPPER.writeValueAsString(code.getMessage())
+                    + ",\"result\":null"
+                    + ",\"timestamp\":\"";
+            return prefix.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 인코딩에 실패했습니다: " + code.getCode(), e);
+        }
+    }
+
+    private static byte[] currentTimestamp() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Timestamp current = timestamp;
+        if (!current.second().equals(now)) {
+            current = new Timestamp(now, TIMESTAMP_FORMAT.format(now).getBytes(StandardCharsets.US_ASCII));
+            timestamp = current;
+        }
+        return current.bytes();
+    }
+
+    private record Timestamp(LocalDateTime second, byte[] bytes) {
+    }
+}
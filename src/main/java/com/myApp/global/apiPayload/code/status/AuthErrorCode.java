@@ -56,7 +56,13 @@ public enum AuthErrorCode implements BaseCode {
     /**
      * Redis에 저장된 리프레시 토큰과 불일치
      */
-    REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "AUTH4009", "저장된 리프레시 토큰과 일치하지 않습니다.");
+    REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "AUTH4009", "저장된 리프레시 토큰과 일치하지 않습니다."),
+
+    /**
+     * 소셜 로그인 성공 후 회원 정보(member id)를 확인할 수 없음
+     * - CustomOAuth2UserService 를 거치지 않은 OAuth2User 로 로그인한 경우
+     */
+    OAUTH2_MEMBER_NOT_FOUND(HttpStatus.UNAUTHORIZED, "AUTH4010", "소셜 로그인 회원 정보를 확인할 수 없습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -1,9 +1,11 @@
 package com.myApp.global.apiPayload.exception;
 
 import com.myApp.global.apiPayload.ApiResponse;
+import com.myApp.global.apiPayload.ErrorResponseWriter;
 import com.myApp.global.apiPayload.code.status.BaseCode;
 import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -109,16 +112,19 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
 
     /**
      * 비즈니스 로직 실행 중 발생하는 커스텀 예외 {@link GeneralException}을 처리합니다.
+     * 응답 본문이 코드별로 고정되어 있으므로 {@link ErrorResponseWriter}로 직렬화 없이 바로 작성합니다.
      *
      * @param generalException 발생한 {@link GeneralException}
      * @param request          현재 요청 객체
-     * @return 에러 응답 {@link ApiResponse}
+     * @param response         에러 응답을 작성할 응답 객체
+     * @throws IOException 응답 작성 중 발생할 수 있는 예외
      */
     @ExceptionHandler(value = GeneralException.class)
-    public ApiResponse<Object> onThrowException(GeneralException generalException, HttpServletRequest request) {
+    public void onThrowException(GeneralException generalException, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
         BaseCode code = generalException.getCode();
         log.warn("GeneralException: {} - {}", code.getCode(), code.getMessage());
-        return ApiResponse.onFailure(code, null);
+        ErrorResponseWriter.write(response, code);
     }
 
 }
@@ -0,0 +1,73 @@
+package com.myApp.global.aspect;
+
+import com.myApp.global.annotation.SingleFlight;
+import com.myApp.global.common.SingleFlightGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SingleFlight} 메서드에 같은 인자로 동시에 들어온 호출을 하나로 합칩니다.
+ * 캐시가 비었거나 만료된 직후 같은 회원 조회가 몰려도 DB 에는 한 번만 조회합니다.
+ *
+ * <p>트랜잭션보다 바깥에서 실행되므로, 기다리는 호출은 트랜잭션(DB 커넥션)을 시작하지 않습니다.
+ * 메서드별로 실제 실행(result=load)과 합쳐진 호출(result=shared) 수를 "singleflight.calls" 로 기록합니다.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private static final String METRIC_NAME = "singleflight.calls";
+
+    private final SingleFlightGroup group = new SingleFlightGroup();
+    private final Map<Method, SingleFlightGroup.Listener> listeners = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("singleflight.in-flight", group, SingleFlightGroup::inFlight).register(meterRegistry);
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object execute(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        SingleFlightGroup.Listener listener = listeners.computeIfAbsent(method, key -> newListener(key, singleFlight));
+        return group.execute(new Key(method, Arrays.asList(joinPoint.getArgs())), joinPoint::proceed, listener);
+    }
+
+    private SingleFlightGroup.Listener newListener(Method method, SingleFlight singleFlight) {
+        String name = singleFlight.value().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : singleFlight.value();
+        Counter loads = Counter.builder(METRIC_NAME).tag("name", name).tag("result", "load").register(meterRegistry);
+        Counter shared = Counter.builder(METRIC_NAME).tag("name", name).tag("result", "shared").register(meterRegistry);
+        return new SingleFlightGroup.Listener() {
+            @Override
+            public void onLoad() {
+                loads.increment();
+            }
+
+            @Override
+            public void onShared() {
+                shared.increment();
+            }
+        };
+    }
+
+    private record Key(Method method, List<Object> args) {
+    }
+}
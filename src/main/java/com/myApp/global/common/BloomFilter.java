@@ -0,0 +1,85 @@
+package com.myApp.global.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom filter 입니다.
+ * mightContain 이 false 이면 해당 키는 추가된 적이 없음이 보장되고, true 이면 오탐일 수 있습니다.
+ * 비트 배열은 AtomicLongArray 로 관리하므로 잠금 없이 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveProbability 예상 원소 수만큼 추가했을 때의 오탐률 (0 ~ 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(expectedInsertions, 1);
+        long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            setBit(index);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // MurmurHash3 fmix64 (이중 해싱의 두 번째 해시, 홀수로 맞춰 모든 비트를 순회하도록 함)
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec4bbL;
+        h ^= h >>> 33;
+        return h | 1;
+    }
+}
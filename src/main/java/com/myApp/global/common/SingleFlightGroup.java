@@ -0,0 +1,79 @@
+package com.myApp.global.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합칩니다 (single-flight).
+ * 먼저 들어온 호출(leader)만 실제로 조회하고, 조회가 끝나기 전에 같은 키로 들어온 호출은 그 결과나 예외를 그대로 받습니다.
+ * 결과를 보관하지는 않으므로, 조회가 끝난 뒤에 들어온 호출은 다시 조회합니다.
+ *
+ * <p>결과 객체를 여러 스레드가 함께 사용하므로 불변 객체(DTO 등)를 반환하는 조회에만 사용해야 합니다.</p>
+ */
+public class SingleFlightGroup {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * key 로 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 loader 를 실행합니다.
+     */
+    public Object execute(Object key, Loader loader, Listener listener) throws Throwable {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            listener.onShared();
+            return await(existing);
+        }
+
+        listener.onLoad();
+        try {
+            Object result = loader.load();
+            call.complete(result);
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public Object execute(Object key, Loader loader) throws Throwable {
+        return execute(key, loader, Listener.NONE);
+    }
+
+    // 진행 중인 조회 수
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> call) throws Throwable {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    // 실제 조회(onLoad)와 합쳐진 호출(onShared) 수를 기록하는 데 사용
+    public interface Listener {
+
+        Listener NONE = new Listener() {
+        };
+
+        default void onLoad() {
+        }
+
+        default void onShared() {
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.myApp.global.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 작업을 예약하는 계층형 타이밍 휠입니다.
+ * tick 을 64진수로 보고 자리수마다 64칸짜리 휠을 두므로, 예약과 만료 처리가 모두 O(1) 이고
+ * 4단계로 tick 의 64^4 배(1초 tick 기준 약 194일)까지 다룹니다.
+ *
+ * <p>작업은 "현재 tick 과 처음 달라지는 가장 높은 자리수"의 휠에 넣고, 하위 자리수가 모두 0 이 되는 시점에
+ * 한 단계 아래 휠로 옮깁니다(cascade). 만료 판정 정밀도는 tick 단위이므로, 정확한 만료 시각이 필요하면
+ * 조회 시점에도 만료 여부를 확인해야 합니다.</p>
+ *
+ * <p>예약은 {@link Timeout} 으로 취소할 수 있고, 취소하면 칸에서 바로 빠지므로(O(1)) 같은 키를 자주 덮어써도
+ * 예약이 만료 시각까지 쌓이지 않습니다.</p>
+ */
+@Slf4j
+public class TimingWheel implements AutoCloseable {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<Bucket> buckets = new ArrayList<>(LEVELS * WHEEL_SIZE);
+    private final ScheduledExecutorService ticker;
+
+    private long currentTick;
+    private int pending;
+
+    public TimingWheel(String name, long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.startMillis = System.currentTimeMillis();
+        for (int i = 0; i < LEVELS * WHEEL_SIZE; i++) {
+            buckets.add(new Bucket());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * deadlineMillis(epoch millis) 이후 첫 tick 에 action 을 실행합니다.
+     */
+    public synchronized Timeout schedule(long deadlineMillis, Runnable action) {
+        long tick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis), currentTick + 1);
+        Timeout timeout = new Timeout(tick, action);
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    // 실행 대기 중인 예약 수
+    synchronized int pending() {
+        return pending;
+    }
+
+    private void place(Timeout timeout) {
+        // 현재 tick 과 처음 달라지는 가장 높은 자리수 (모두 같으면 0)
+        long diff = timeout.tick ^ currentTick;
+        int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / WHEEL_BITS;
+        level = Math.min(level, LEVELS - 1);
+        bucket(level, timeout.tick).add(timeout);
+    }
+
+    private Bucket bucket(int level, long tick) {
+        int slot = (int) ((tick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        return buckets.get(level * WHEEL_SIZE + slot);
+    }
+
+    private void advance() {
+        List<Runnable> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                Bucket bucket = bucket(0, currentTick);
+                for (Timeout timeout; (timeout = bucket.poll()) != null; ) {
+                    pending--;
+                    expired.add(timeout.action);
+                }
+            }
+        }
+
+        for (Runnable action : expired) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("만료 작업 실행에 실패했습니다.", e);
+            }
+        }
+    }
+
+    // 하위 자리수가 모두 0 이 된 단계의 현재 칸을 비우고 다시 배치 (상위 단계부터)
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (level * WHEEL_BITS)) - 1)) != 0) {
+                continue;
+            }
+            Bucket bucket = bucket(level, currentTick);
+            Timeout timeout = bucket.clear();
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 예약 하나입니다. 실행 전에 {@link #cancel()} 하면 실행되지 않습니다.
+     */
+    public final class Timeout {
+
+        private final long tick;
+        private final Runnable action;
+        // 현재 들어 있는 칸 (실행/취소되면 null)
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long tick, Runnable action) {
+            this.tick = tick;
+            this.action = action;
+        }
+
+        // 이미 실행되었거나 취소된 예약이면 아무 것도 하지 않음
+        public void cancel() {
+            synchronized (TimingWheel.this) {
+                if (bucket != null) {
+                    bucket.remove(this);
+                    pending--;
+                }
+            }
+        }
+    }
+
+    // 중간 원소를 O(1) 로 뺄 수 있도록 Timeout 을 직접 잇는 이중 연결 리스트
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout poll() {
+            Timeout first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+
+        // 모든 원소를 떼어내고 첫 원소를 반환 (원소끼리의 연결은 유지)
+        Timeout clear() {
+            Timeout first = head;
+            for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.myApp.global.config;
+
+import com.myApp.auth.redis.RevocationEpochStore;
+import com.myApp.auth.redis.TokenBlacklist;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.domain.users.service.UserProfileCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 구독 설정을 담당하는 클래스입니다.
+ * 노드 간에 공유해야 하는 로컬 상태(블랙리스트 필터, 회원 프로필 캐시 등)의 변경 이벤트를 구독합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = TokenStore.PROPERTY, havingValue = "redis", matchIfMissing = true)
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            ObjectProvider<TokenBlacklist> tokenBlacklist, ObjectProvider<RevocationEpochStore> revocationEpochStore,
+            UserProfileCache userProfileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // 토큰 무효화 방식(spring.jwt.revocation.strategy)에 따라 둘 중 하나만 등록됨
+        tokenBlacklist.ifAvailable(listener ->
+                container.addMessageListener(listener, new ChannelTopic(TokenBlacklist.CHANNEL)));
+        revocationEpochStore.ifAvailable(listener ->
+                container.addMessageListener(listener, new ChannelTopic(RevocationEpochStore.CHANNEL)));
+        container.addMessageListener(userProfileCache, new ChannelTopic(UserProfileCache.CHANNEL));
+        return container;
+    }
+}
@@ -1,18 +1,20 @@
 package com.myApp.global.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.myApp.auth.handler.OAuth2SuccessHandler;
 import com.myApp.auth.jwt.JwtAuthenticationFilter;
 import com.myApp.auth.jwt.JwtTokenProvider;
 import com.myApp.auth.service.CustomOAuth2UserService;
-import com.myApp.global.apiPayload.ApiResponse;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.global.apiPayload.ErrorResponseWriter;
 import com.myApp.global.apiPayload.code.status.AuthErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.ExceptionHandlingConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
@@ -24,56 +26,153 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenStore tokenStore;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
 
+    /**
+     * 정적 리소스, Swagger 문서 요청은 인증 없이 통과시키며 JWT/OAuth2 필터를 거치지 않습니다.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
         http
+                .securityMatcher("/", "/css/**", "/images/**", "/js/**", "/favicon.ico",
+                        "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    /**
+     * OAuth2 로그인 리다이렉트/콜백 경로에만 OAuth2 로그인 필터를 적용합니다.
+     * 로그인 실패 시 이동하는 기본 로그인 페이지(/login, /login?error)도 이 체인에서 처리합니다.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain oauth2FilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/oauth2/**", "/login/oauth2/**", "/login")
                 .csrf(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
-                .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
 
-                .authorizeHttpRequests(auth -> auth
-                        // 1. 공통 정적 리소스 및 H2 콘솔
-                        .requestMatchers("/", "/css/**", "/images/**", "/js/**", "/favicon.ico", "/h2-console/**").permitAll()
+                .oauth2Login(oauth2 -> oauth2
+                        .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
+                        .successHandler(oAuth2SuccessHandler));
 
-                        // 2. Swagger UI (개발 환경)
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+        return http.build();
+    }
 
-                        // 3. 인증/인가 관련 엔드포인트
-                        .requestMatchers("/api/v1/auth/**", "/oauth2/**", "/login/oauth2/**").permitAll()
+    /**
+     * Stateless API 전용 체인입니다. JWT 인증(로그아웃된 토큰 거절 포함)과 예외 변환만 수행합니다.
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/api/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                .authorizeHttpRequests(auth -> auth
+                        // 1. 인증/인가 관련 엔드포인트
+                        .requestMatchers("/api/v1/auth/**").permitAll()
 
-                        // 4. S3 관련
+                        // 2. S3 관련
                         .requestMatchers("/api/v1/s3/**").permitAll()
 
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated())
 
-                // 인증되지 않은 사용자의 접근 시 401 JSON 응답 반환
-                // (토큰이 없는 상태에서 인증 필요 엔드포인트 접근)
-                .exceptionHandling(exception -> exception
-                        .authenticationEntryPoint((request, response, authException) -> {
-                            response.setContentType("application/json;charset=UTF-8");
-                            response.setStatus(AuthErrorCode.UNAUTHORIZED.getHttpStatus().value());
+                .exceptionHandling(this::configureExceptionHandling)
 
-                            ApiResponse.Body<?> errorBody = ApiResponse.createFailureBody(AuthErrorCode.UNAUTHORIZED);
+                // JWT 필터 배치
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenStore),
+                        UsernamePasswordAuthenticationFilter.class);
 
-                            ObjectMapper objectMapper = new ObjectMapper();
-                            objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-                            response.getWriter().write(objectMapper.writeValueAsString(errorBody));
-                        }))
+        return http.build();
+    }
 
-                .oauth2Login(oauth2 -> oauth2
-                        .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
-                        .successHandler(oAuth2SuccessHandler))
+    /**
+     * actuator 엔드포인트입니다. health 는 로드밸런서/오케스트레이터가 토큰 없이 조회할 수 있도록 열어 두고,
+     * metrics 는 내부 지표(토큰 저장소, 캐시, 스레드 상태 등)가 노출되므로 ADMIN 권한의 Access Token 을 요구합니다.
+     * 노출 대상은 management.endpoints.web.exposure.include 로 제한합니다.
+     */
+    @Bean
+    @Order(4)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
+                        .anyRequest().denyAll())
+                .exceptionHandling(this::configureExceptionHandling)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenStore),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * 위 체인에 해당하지 않는 나머지 요청 (H2 콘솔, /error 등)
+     */
+    @Bean
+    @Order(5)
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                .authorizeHttpRequests(auth -> auth
+                        // H2 콘솔
+                        .requestMatchers("/h2-console/**").permitAll()
+
+                        // 그 외 모든 요청은 인증 필요
+                        .anyRequest().authenticated())
+
+                .exceptionHandling(this::configureExceptionHandling)
 
                 // JWT 필터 배치
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenStore),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    // 인증되지 않은 사용자의 접근 시 401, 권한 부족 시 403 JSON 응답 반환
+    // (토큰이 없는 상태에서 인증 필요 엔드포인트 접근)
+    private void configureExceptionHandling(ExceptionHandlingConfigurer<HttpSecurity> exception) {
+        exception
+                .authenticationEntryPoint((request, response, authException) ->
+                        ErrorResponseWriter.write(response, AuthErrorCode.UNAUTHORIZED))
+                .accessDeniedHandler((request, response, accessDeniedException) ->
+                        ErrorResponseWriter.write(response, AuthErrorCode.AUTH_FORBIDDEN));
+    }
 }
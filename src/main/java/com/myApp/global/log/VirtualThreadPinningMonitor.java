@@ -0,0 +1,87 @@
+package com.myApp.global.log;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 모드에서 carrier 스레드 pinning 을 감지하는 클래스입니다.
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여,
+ * 발생 횟수/시간을 actuator 메트릭(jvm.threads.virtual.pinned)으로 노출하고 pinning 위치를 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 carrier 스레드에 고정(pinning)된 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (기준: {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("가상 스레드 pinning {} ms - {}", event.getDuration().toMillis(), topFrame(event));
+    }
+
+    // pinning 을 일으킨 애플리케이션 코드 위치 (없으면 최상단 프레임)
+    private String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame selected = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("com.myApp"))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+
+        if (selected == null) {
+            return "unknown";
+        }
+        return selected.getMethod().getType().getName() + "." + selected.getMethod().getName()
+                + ":" + selected.getLineNumber();
+    }
+}
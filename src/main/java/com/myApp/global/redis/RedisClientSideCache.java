@@ -0,0 +1,274 @@
+package com.myApp.global.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회하는 Redis 키(기본값: 블랙리스트 "blacklist:", Refresh Token 세션 "refresh:")의 조회 결과를 노드 로컬에 보관하는 캐시입니다.
+ * Redis 6 의 client-side caching(RESP3 CLIENT TRACKING)을 사용하여, 조회한 키가 어느 노드에서든 변경/삭제/만료되면
+ * Redis 가 보내는 invalidate 메시지로 로컬 엔트리를 지웁니다. 반복 조회는 메모리에서 처리하면서도 노드 간에 같은 값을 봅니다.
+ * 키가 없다는 조회 결과도 캐시하므로, Bloom filter 오탐으로 Redis 까지 오던 유효한 토큰도 한 번만 조회합니다.
+ *
+ * <p>Redis 는 키를 조회한 연결에만 무효화를 보내므로, 캐시할 조회는 추적을 켠 전용 연결로 보냅니다.
+ * 응답과 무효화가 같은 연결로 순서대로 도착하므로, 조회하는 사이에 무효화가 들어오면 그 결과는 캐시하지 않습니다.
+ * 연결이 끊기면 그동안의 무효화를 받을 수 없으므로 캐시를 비우고, 다시 연결되어 추적이 켜질 때까지 Redis 로 바로 조회합니다.</p>
+ *
+ * <p>비활성화(spring.jwt.client-side-cache.enabled=false)하거나 추적을 켤 수 없는 환경(RESP2, Cluster 등)에서는
+ * {@link StringRedisTemplate} 으로 바로 조회합니다. 추적 연결은 첫 조회 시점에 엽니다.</p>
+ */
+@Slf4j
+@Component
+public class RedisClientSideCache {
+
+    private static final String CACHE_NAME = "redis.client-side";
+    private static final String INVALIDATION_METRIC_NAME = "redis.client-side.invalidations";
+    private static final long RETRY_DELAY_SECONDS = 30;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final List<String> trackedPrefixes;
+
+    // 비활성화 시 null
+    private final Cache<String, Object> cache;
+    // 무효화(연결 끊김 포함)가 들어올 때마다 증가, 조회하는 사이에 바뀌면 그 결과는 캐시하지 않음
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean tracking;
+    private volatile boolean unavailable;
+    private volatile long retryAt;
+
+    private final Counter keyInvalidations;
+    private final Counter flushInvalidations;
+
+    public RedisClientSideCache(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.client-side-cache.enabled:false}") boolean enabled,
+            @Value("${spring.jwt.client-side-cache.maximum-size:100000}") long maximumSize,
+            @Value("${spring.jwt.client-side-cache.ttl:10m}") Duration ttl,
+            @Value("${spring.jwt.client-side-cache.prefixes:blacklist:,refresh:}") List<String> trackedPrefixes) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.trackedPrefixes = List.copyOf(trackedPrefixes);
+        // 무효화를 받지 못하는 경우에 대비해 엔트리 수명도 제한
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build()
+                : null;
+
+        // key: 다른 노드/연결의 변경으로 지운 키 수, flush: FLUSHDB/연결 끊김 등으로 전체를 비운 횟수
+        this.keyInvalidations = Counter.builder(INVALIDATION_METRIC_NAME).tag("type", "key").register(meterRegistry);
+        this.flushInvalidations = Counter.builder(INVALIDATION_METRIC_NAME).tag("type", "flush").register(meterRegistry);
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+            Gauge.builder(CACHE_NAME + ".tracking", this, self -> self.tracking ? 1 : 0).register(meterRegistry);
+        }
+    }
+
+    // EXISTS
+    public boolean exists(String key) {
+        StatefulRedisConnection<String, String> tracked = trackedConnectionFor(key);
+        if (tracked == null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        }
+        return read(key, Boolean.class, () -> tracked.sync().exists(key) > 0);
+    }
+
+    // HMGET, 없는 필드는 null
+    public List<String> multiGet(String key, List<String> fields) {
+        StatefulRedisConnection<String, String> tracked = trackedConnectionFor(key);
+        if (tracked == null) {
+            return multiGetFromRedis(key, fields);
+        }
+        HashValues values = read(key, HashValues.class, () -> new HashValues(fields,
+                tracked.sync().hmget(key, fields.toArray(String[]::new)).stream()
+                        .map(keyValue -> keyValue.getValueOrElse(null))
+                        .toList()));
+        // 같은 키를 다른 필드로 조회한 결과가 캐시되어 있으면 Redis 에서 바로 읽음
+        return values.fields().equals(fields) ? values.values() : multiGetFromRedis(key, fields);
+    }
+
+    private List<String> multiGetFromRedis(String key, List<String> fields) {
+        return redisTemplate.opsForHash().multiGet(key, List.copyOf(fields)).stream()
+                .map(value -> (String) value)
+                .toList();
+    }
+
+    // 캐시할 키이고 추적 중이면 추적 연결, 아니면 null
+    private StatefulRedisConnection<String, String> trackedConnectionFor(String key) {
+        if (cache == null || trackedPrefixes.stream().noneMatch(key::startsWith) || !ensureTracking()) {
+            return null;
+        }
+        return connection;
+    }
+
+    private <T> T read(String key, Class<T> type, Supplier<T> loader) {
+        Object cached = cache.getIfPresent(key);
+        if (type.isInstance(cached)) {
+            return type.cast(cached);
+        }
+
+        long sequence = invalidationSequence.get();
+        T value = loader.get();
+        // 무효화 처리(invalidate)와 같은 키 잠금 안에서 확인하므로, 확인 직후 들어온 무효화도 놓치지 않음
+        cache.asMap().compute(key, (ignored, current) ->
+                tracking && invalidationSequence.get() == sequence ? value : current);
+        return value;
+    }
+
+    private void invalidate(String key) {
+        invalidationSequence.incrementAndGet();
+        cache.invalidate(key);
+    }
+
+    private void invalidateAll() {
+        invalidationSequence.incrementAndGet();
+        cache.invalidateAll();
+        flushInvalidations.increment();
+    }
+
+    // 추적 연결을 열고 CLIENT TRACKING 을 켬, 지원하지 않는 환경이면 이후로는 캐시를 사용하지 않음
+    private boolean ensureTracking() {
+        if (tracking) {
+            return true;
+        }
+        // 재연결 후 추적을 다시 켜는 중이거나, 연결에 실패한 뒤 재시도 대기 중
+        if (unavailable || connection != null || System.currentTimeMillis() < retryAt) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (unavailable || connection != null || System.currentTimeMillis() < retryAt) {
+                return tracking;
+            }
+            try {
+                connection = connect();
+                connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+                tracking = true;
+                log.info("Redis client-side caching 사용 (추적 대상: {})", trackedPrefixes);
+            } catch (IllegalStateException | RedisCommandExecutionException e) {
+                // Cluster, RESP2 등 추적을 지원하지 않는 환경
+                log.warn("Redis client-side caching 을 사용할 수 없습니다. Redis 로 바로 조회합니다.", e);
+                unavailable = true;
+                close();
+            } catch (RuntimeException e) {
+                log.warn("Redis client-side caching 연결에 실패했습니다. {}초 후 다시 시도합니다.", RETRY_DELAY_SECONDS, e);
+                retryAt = System.currentTimeMillis() + RETRY_DELAY_SECONDS * 1000;
+                close();
+            }
+            return tracking;
+        }
+    }
+
+    private StatefulRedisConnection<String, String> connect() {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory)) {
+            throw new IllegalStateException("Lettuce 연결이 아닙니다: " + connectionFactory.getClass().getName());
+        }
+        AbstractRedisClient nativeClient = lettuceConnectionFactory.getRequiredNativeClient();
+        if (!(nativeClient instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("단일 Redis(standalone)에서만 사용할 수 있습니다.");
+        }
+
+        StatefulRedisConnection<String, String> tracked = redisClient.connect(StringCodec.UTF8);
+        tracked.addListener(this::onPushMessage);
+        redisClient.addListener(new TrackingReconnectListener(tracked));
+        return tracked;
+    }
+
+    // invalidate 메시지: [invalidate, 키 목록] (FLUSHDB/FLUSHALL 이면 키 목록이 null)
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            invalidateAll();
+            return;
+        }
+        for (Object key : keys) {
+            invalidate(key instanceof ByteBuffer buffer ? StringCodec.UTF8.decodeKey(buffer) : (String) key);
+        }
+        keyInvalidations.increment(keys.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        tracking = false;
+        if (connection != null) {
+            connection.closeAsync();
+            connection = null;
+        }
+    }
+
+    // 연결이 끊긴 동안의 무효화는 받을 수 없으므로 캐시를 비우고, 다시 연결되면 추적을 켠 뒤에 캐시를 사용
+    private class TrackingReconnectListener implements RedisConnectionStateListener {
+
+        private final StatefulRedisConnection<String, String> tracked;
+
+        TrackingReconnectListener(StatefulRedisConnection<String, String> tracked) {
+            this.tracked = tracked;
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler == tracked) {
+                tracking = false;
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+            if (handler != tracked || tracking || !tracked.isOpen()) {
+                return;
+            }
+            tracked.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.warn("Redis 재연결 후 CLIENT TRACKING 을 켜지 못했습니다. Redis 로 바로 조회합니다.", e);
+                    return;
+                }
+                invalidateAll();
+                tracking = true;
+            });
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+            // 연결 오류는 끊김/재연결 이벤트로 처리
+        }
+    }
+
+    // 조회한 필드 목록과 값 (없는 필드는 null)
+    private record HashValues(List<String> fields, List<String> values) {
+    }
+}
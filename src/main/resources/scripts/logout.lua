@@ -0,0 +1,25 @@
+-- 로그아웃: Refresh Token 세션 삭제 + Access Token 무효화 엔트리 기록 + 다른 노드에 전파
+-- KEYS[1] 세션 키, KEYS[2] 이전 형식 세션 키, KEYS[3] 회원의 세션 목록(zset), KEYS[4] 무효화 키 (기록할 필요가 없으면 생략)
+-- ARGV[1] 세션 ID (없으면 빈 문자열), ARGV[2] 모든 기기 로그아웃 시 세션 키 prefix ("refresh:{<subject>}:", 해당 기기만이면 빈 문자열)
+-- ARGV[3] 무효화 값, ARGV[4] TTL(ms), ARGV[5] 채널, ARGV[6] 메시지
+-- 다른 기기의 세션 키는 선언하지 않고 ARGV[2] 로 만들지만 KEYS[1], KEYS[3] 과 같은 hash tag 이므로 같은 slot 에 있음
+-- 해당 기기만 로그아웃할 때 이전 형식 세션은 세션 ID 가 없는 토큰이거나, 이 세션의 토큰을 함께 기록해 둔 경우에만 삭제 (다른 기기의 세션일 수 있음)
+local allSessions = ARGV[2] ~= ''
+local token = redis.call('HGET', KEYS[1], 'token')
+if allSessions or ARGV[1] == '' or (token and redis.call('HGET', KEYS[2], 'token') == token) then
+    redis.call('DEL', KEYS[2])
+end
+redis.call('DEL', KEYS[1])
+if allSessions then
+    for _, sessionId in ipairs(redis.call('ZRANGE', KEYS[3], 0, -1)) do
+        redis.call('DEL', ARGV[2] .. sessionId)
+    end
+    redis.call('DEL', KEYS[3])
+else
+    redis.call('ZREM', KEYS[3], ARGV[1])
+end
+if KEYS[4] then
+    redis.call('SET', KEYS[4], ARGV[3], 'PX', ARGV[4])
+    redis.call('PUBLISH', ARGV[5], ARGV[6])
+end
+return 1
@@ -0,0 +1,16 @@
+-- 이전 형식(@RedisHash) 세션을 새 세션 키로 옮김 (남은 TTL 유지, 새 키가 이미 있으면 새 키 유지)
+-- KEYS[1] 이전 형식 세션 키, KEYS[2] 새 세션 키
+-- ARGV[1] TTL 이 없는 세션(PTTL -1)에 사용할 TTL(ms)
+-- 반환: 1 이전, 0 건너뜀
+local token = redis.call('HGET', KEYS[1], 'token')
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl == -1 then
+    ttl = tonumber(ARGV[1])
+end
+redis.call('DEL', KEYS[1])
+if token and ttl > 0 and redis.call('EXISTS', KEYS[2]) == 0 then
+    redis.call('HSET', KEYS[2], 'token', token)
+    redis.call('PEXPIRE', KEYS[2], ttl)
+    return 1
+end
+return 0
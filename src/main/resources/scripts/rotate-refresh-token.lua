@@ -0,0 +1,62 @@
+-- Refresh Token 교체 (compare-and-swap)
+-- KEYS[1] 현재 세션 키, KEYS[2] 새 세션 키 (세션 ID 가 없는 이전 세션을 옮길 때만 다름)
+-- KEYS[3] 현재 세션의 이전 형식 키 (세션 ID 가 있으면 KEYS[1] 과 같음)
+-- KEYS[4] 유예 키 (교체된 토큰으로 들어온 동시 요청에 같은 토큰 쌍을 돌려주기 위함), KEYS[5] 새 세션의 세션 목록(zset)
+-- KEYS[6] 새 세션의 이전 형식 키 (이전 버전 노드와 함께 운영하는 동안만, 새 토큰을 함께 기록)
+-- ARGV[1] 제시된 Refresh Token, ARGV[2] 새 Refresh Token, ARGV[3] TTL(ms)
+-- ARGV[4] 유예 기간(ms, 0 이면 사용 안 함), ARGV[5] 새 Access Token, ARGV[6] Access Token 만료 시각(epoch ms)
+-- ARGV[7] 권한 코드, ARGV[8] 토큰을 만들 때 사용한 권한 버전
+-- ARGV[9] 새 세션 ID, ARGV[10] 현재 시각(epoch ms), ARGV[11] 회원당 최대 세션 수
+-- ARGV[12] 새 세션 키 prefix ("refresh:{<subject>}:", 삭제할 다른 기기의 세션 키는 선언하지 않고 이 값으로 만들지만
+-- KEYS[2], KEYS[5] 와 같은 hash tag 이므로 같은 slot 에 있음)
+-- ARGV[13] 새 subject (이전 형식 세션의 id), ARGV[14] 권한을 DB 에서 확인한 시각(epoch ms, 0 이면 저장된 값 유지)
+-- ARGV[15] 저장된 확인 시각을 유지할 때, 이 시각(epoch ms) 전에 확인한 세션이면 교체하지 않음
+-- 반환: 1 교체, 0 세션 없음, -1 불일치, -2 세션의 권한이 더 새로움, -3 DB 에서 다시 확인 필요
+local current = redis.call('HMGET', KEYS[1], 'token', 'version', 'checked')
+if not current[1] then
+    current = redis.call('HMGET', KEYS[3], 'token', 'version', 'checked')
+end
+if not current[1] then
+    return 0
+end
+if current[1] ~= ARGV[1] then
+    return -1
+end
+if tonumber(current[2] or '0') > tonumber(ARGV[8]) then
+    return -2
+end
+local checked = ARGV[14]
+if checked == '0' then
+    checked = current[3] or '0'
+    if tonumber(checked) < tonumber(ARGV[15]) then
+        return -3
+    end
+end
+
+local ttl = tonumber(ARGV[3])
+local now = tonumber(ARGV[10])
+redis.call('DEL', KEYS[1], KEYS[3])
+redis.call('HSET', KEYS[2], 'token', ARGV[2], 'role', ARGV[7], 'version', ARGV[8], 'checked', checked)
+redis.call('PEXPIRE', KEYS[2], ttl)
+if KEYS[6] then
+    redis.call('HSET', KEYS[6], 'id', ARGV[13], 'token', ARGV[2])
+    redis.call('PEXPIRE', KEYS[6], ttl)
+end
+
+-- 마지막 사용 시각 갱신 (이전 세션을 옮긴 경우 새로 추가되므로 최대 수 확인)
+redis.call('ZADD', KEYS[5], now, ARGV[9])
+redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', now - ttl)
+local excess = redis.call('ZCARD', KEYS[5]) - tonumber(ARGV[11])
+if excess > 0 then
+    for _, sessionId in ipairs(redis.call('ZRANGE', KEYS[5], 0, excess - 1)) do
+        redis.call('DEL', ARGV[12] .. sessionId)
+    end
+    redis.call('ZREMRANGEBYRANK', KEYS[5], 0, excess - 1)
+end
+redis.call('PEXPIRE', KEYS[5], ttl)
+
+if tonumber(ARGV[4]) > 0 then
+    redis.call('HSET', KEYS[4], 'access', ARGV[5], 'refresh', ARGV[2], 'expiresIn', ARGV[6])
+    redis.call('PEXPIRE', KEYS[4], ARGV[4])
+end
+return 1
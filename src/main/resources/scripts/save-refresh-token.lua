@@ -0,0 +1,29 @@
+-- Refresh Token 세션 저장 (로그인한 기기마다 하나, 같은 세션 ID 의 이전 값은 대체)
+-- KEYS[1] 세션 키, KEYS[2] 회원의 세션 목록(zset, 세션 ID -> 마지막 사용 시각)
+-- KEYS[3] 이전 형식 세션 키 (이전 버전 노드와 함께 운영하는 동안만, 마지막으로 저장한 세션을 함께 기록)
+-- ARGV[1] Refresh Token, ARGV[2] TTL(ms), ARGV[3] 권한 코드, ARGV[4] 권한 버전
+-- ARGV[5] 세션 ID, ARGV[6] 현재 시각(epoch ms), ARGV[7] 회원당 최대 세션 수, ARGV[8] 세션 키 prefix ("refresh:{<subject>}:")
+-- ARGV[9] subject (이전 형식 세션의 id), ARGV[10] 권한을 DB 에서 확인한 시각(epoch ms)
+-- 삭제할 다른 기기의 세션 키는 선언하지 않고 ARGV[8] 로 만들지만 KEYS[1], KEYS[2] 와 같은 hash tag 이므로 같은 slot 에 있음
+local ttl = tonumber(ARGV[2])
+local now = tonumber(ARGV[6])
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'token', ARGV[1], 'role', ARGV[3], 'version', ARGV[4], 'checked', ARGV[10])
+redis.call('PEXPIRE', KEYS[1], ttl)
+if KEYS[3] then
+    redis.call('HSET', KEYS[3], 'id', ARGV[9], 'token', ARGV[1])
+    redis.call('PEXPIRE', KEYS[3], ttl)
+end
+
+-- TTL 동안 사용되지 않은 세션은 이미 만료됨, 최대 수를 넘으면 가장 오래 사용하지 않은 세션부터 삭제
+redis.call('ZADD', KEYS[2], now, ARGV[5])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - ttl)
+local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[7])
+if excess > 0 then
+    for _, sessionId in ipairs(redis.call('ZRANGE', KEYS[2], 0, excess - 1)) do
+        redis.call('DEL', ARGV[8] .. sessionId)
+    end
+    redis.call('ZREMRANGEBYRANK', KEYS[2], 0, excess - 1)
+end
+redis.call('PEXPIRE', KEYS[2], ttl)
+return 1
@@ -0,0 +1,22 @@
+-- 권한 변경을 회원의 모든 Refresh Token 세션에 반영 (세션이 있고, 저장된 버전보다 새로울 때만)
+-- KEYS[1] 회원의 세션 목록(zset), KEYS[2] 세션 ID 가 없는 이전 세션 키
+-- ARGV[1] 권한 코드, ARGV[2] 권한 버전, ARGV[3] 세션 키 prefix ("refresh:{<subject>}:")
+-- 세션 키는 선언하지 않고 ARGV[3] 으로 만들지만 KEYS 와 같은 hash tag 이므로 같은 slot 에 있음
+-- 반환: 갱신한 세션 수
+local function update(key)
+    if redis.call('EXISTS', key) == 0 then
+        return 0
+    end
+    local version = redis.call('HGET', key, 'version')
+    if tonumber(version or '0') >= tonumber(ARGV[2]) then
+        return 0
+    end
+    redis.call('HSET', key, 'role', ARGV[1], 'version', ARGV[2])
+    return 1
+end
+
+local updated = update(KEYS[2])
+for _, sessionId in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do
+    updated = updated + update(ARGV[3] .. sessionId)
+end
+return updated
@@ -0,0 +1,81 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.store.InMemoryTokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private InMemoryTokenStore tokenStore;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 1209600, new VerifiedTokenCache(false, 0));
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse getMyInfo(String accessToken, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER,
+                JwtAuthenticationFilter.BEARER_PREFIX + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이면 인증 정보를 저장하고 다음 필터로 진행")
+    void doFilter_ValidToken() throws Exception {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(new AuthPrincipal(1L, null, Role.USER));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = getMyInfo(accessToken, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 Access Token 으로 /api/v1/users/me 요청 시 401")
+    void doFilter_LoggedOutToken() throws Exception {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(new AuthPrincipal(1L, null, Role.USER));
+        tokenStore.logout(jwtTokenProvider.verify(accessToken));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        MockHttpServletResponse response = getMyInfo(accessToken, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("AUTH4003");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,170 @@
+package com.myApp.auth.jwt;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.global.apiPayload.exception.GeneralException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AuthPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 180, 1209600, new VerifiedTokenCache(false, 0));
+        principal = new AuthPrincipal(1L, "test@example.com", Role.USER);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 형식 검사와 서명 검증을 통과")
+    void verify_IssuedToken() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(principal);
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(accessToken);
+
+        // then
+        assertThat(jwtTokenProvider.precheck(accessToken)).isEqualTo(TokenPrecheck.VALID);
+        assertThat(verifiedToken.getSubject()).isEqualTo("1");
+        assertThat(verifiedToken.getMemberId()).isEqualTo(1L);
+        assertThat(verifiedToken.getTokenId()).isNotNull();
+        assertThat(verifiedToken.getRevocationId()).isEqualTo(verifiedToken.getTokenId());
+        assertThat(jwtTokenProvider.getAuthentication(verifiedToken).getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("인증 해제는 허용되고 해당 요청의 Authentication 에만 반영됨")
+    void setAuthenticated_False() {
+        // given
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(jwtTokenProvider.generateAccessToken(principal));
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+
+        // when
+        authentication.setAuthenticated(false);
+
+        // then
+        assertThat(authentication.isAuthenticated()).isFalse();
+        assertThat(jwtTokenProvider.getAuthentication(verifiedToken).isAuthenticated()).isTrue();
+        assertThatThrownBy(() -> authentication.setAuthenticated(true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 쌍에는 로그인한 기기의 세션 ID 가 들어감")
+    void generateTokenDto_SessionId() {
+        // given
+        String sessionId = JwtTokenProvider.newSessionId();
+
+        // when
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principal, sessionId, 0);
+
+        // then
+        assertThat(sessionId).hasSize(16);
+        assertThat(jwtTokenProvider.verify(tokenDto.getAccessToken()).getSessionId()).isEqualTo(sessionId);
+        assertThat(jwtTokenProvider.verify(tokenDto.getRefreshToken()).getSessionId()).isEqualTo(sessionId);
+        assertThat(jwtTokenProvider.verify(jwtTokenProvider.generateAccessToken(principal)).getSessionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 에는 권한과 권한 버전이 들어가지만 Access Token 으로는 인증되지 않음")
+    void generateTokenDto_RefreshTokenClaims() {
+        // when
+        TokenDto tokenDto = jwtTokenProvider.generateTokenDto(principal, JwtTokenProvider.newSessionId(), 3);
+        VerifiedToken refreshToken = jwtTokenProvider.verify(tokenDto.getRefreshToken());
+        VerifiedToken accessToken = jwtTokenProvider.verify(tokenDto.getAccessToken());
+
+        // then
+        assertThat(refreshToken.getSessionRole()).isEqualTo(Role.USER);
+        assertThat(refreshToken.getAuthVersion()).isEqualTo(3L);
+        assertThat(accessToken.getSessionRole()).isNull();
+        assertThat(accessToken.getAuthVersion()).isNull();
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(refreshToken))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("전환 기간 동안 이전 형식(email subject + auth 클레임) 토큰도 허용")
+    void verify_LegacyToken() {
+        // given
+        String legacyToken = Jwts.builder()
+                .subject("test@example.com")
+                .claim("auth", "ROLE_USER")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(legacyToken);
+        AuthPrincipal legacyPrincipal = (AuthPrincipal) jwtTokenProvider.getAuthentication(verifiedToken).getPrincipal();
+
+        // then
+        assertThat(verifiedToken.getMemberId()).isNull();
+        assertThat(verifiedToken.getRevocationId()).hasSize(22);
+        assertThat(legacyPrincipal.getEmail()).isEqualTo("test@example.com");
+        assertThat(legacyPrincipal.getUsername()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("이전 형식 블랙리스트 키는 서명/만료 검증 없이 같은 revocationId 로 변환")
+    void unverifiedRevocationIdOf() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(principal);
+        String expiredLegacyToken = Jwts.builder()
+                .subject("test@example.com")
+                .claim("auth", "ROLE_USER")
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+
+        // when & then
+        assertThat(JwtTokenProvider.unverifiedRevocationIdOf(accessToken))
+                .isEqualTo(jwtTokenProvider.verify(accessToken).getRevocationId());
+        assertThat(JwtTokenProvider.unverifiedRevocationIdOf(expiredLegacyToken)).hasSize(22);
+        assertThat(JwtTokenProvider.unverifiedRevocationIdOf("not-a-jwt")).isNull();
+        assertThat(JwtTokenProvider.unverifiedRevocationIdOf("a.pay+load.sig")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 없이 결과 코드로 거절")
+    void precheck_Garbage() {
+        String accessToken = jwtTokenProvider.generateAccessToken(principal);
+        String header = accessToken.substring(0, accessToken.indexOf('.'));
+
+        assertThat(jwtTokenProvider.precheck("not-a-jwt")).isEqualTo(TokenPrecheck.MALFORMED);
+        assertThat(jwtTokenProvider.precheck(header + ".payload.")).isEqualTo(TokenPrecheck.MALFORMED);
+        assertThat(jwtTokenProvider.precheck(header + ".pay+load.sig")).isEqualTo(TokenPrecheck.MALFORMED);
+        assertThat(jwtTokenProvider.precheck("eyJhbGciOiJub25lIn0.payload.sig"))
+                .isEqualTo(TokenPrecheck.UNSUPPORTED_ALGORITHM);
+        assertThat(jwtTokenProvider.precheck(header + "." + "a".repeat(3000) + ".sig"))
+                .isEqualTo(TokenPrecheck.TOO_LONG);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 검증 실패")
+    void verify_TamperedSignature() {
+        String accessToken = jwtTokenProvider.generateAccessToken(principal);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "AA";
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(GeneralException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.myApp.auth.redis;
+
+import com.myApp.auth.dto.MemberView;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationEpochStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private RevocationEpochStore revocationEpochStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationEpochStore = new RevocationEpochStore(redisTemplate, memberRepository, 1800, Duration.ofMinutes(1), 100);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    private VerifiedToken accessToken(long issuedAt) {
+        return VerifiedToken.builder()
+                .subject("1")
+                .memberId(1L)
+                .issuedAt(issuedAt)
+                .expiration(issuedAt + 1_800_000)
+                .build();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 발급된 토큰은 무효, 이후 발급된 토큰은 유효")
+    void isRevoked_ComparesIssuedAt() {
+        // given
+        long epoch = System.currentTimeMillis() - 60_000;
+        given(valueOperations.get("revoked-before:1")).willReturn(String.valueOf(epoch));
+
+        // when & then
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch - 10_000))).isTrue();
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch + 10_000))).isFalse();
+        // 기준 시각은 로컬 캐시에서 재사용
+        verify(valueOperations, times(1)).get("revoked-before:1");
+    }
+
+    @Test
+    @DisplayName("로그아웃과 같은 초에 다시 발급된 토큰은 유효")
+    void isRevoked_SameSecondReLogin() {
+        // given
+        long epoch = (System.currentTimeMillis() / 1000 - 60) * 1000 + 300;
+        given(valueOperations.get("revoked-before:1")).willReturn(String.valueOf(epoch));
+
+        // when & then
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch - 200))).isTrue();
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch + 400))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각이 없는 회원의 토큰은 유효")
+    void isRevoked_NoEpoch() {
+        given(valueOperations.get("revoked-before:1")).willReturn(null);
+
+        assertThat(revocationEpochStore.isRevoked(accessToken(System.currentTimeMillis()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각은 이전 형식 토큰의 subject(email)에도 기록")
+    void revoke_WritesLegacySubject() {
+        // given
+        given(memberRepository.findViewById(1L))
+                .willReturn(Optional.of(new MemberView(1L, "test", "test@example.com", Role.USER, null)));
+
+        // when
+        revocationEpochStore.revoke(accessToken(System.currentTimeMillis()));
+
+        // then
+        verify(valueOperations).set(eq("revoked-before:1"), anyString(), eq(1800L), eq(TimeUnit.SECONDS));
+        verify(valueOperations).set(eq("revoked-before:test@example.com"), anyString(), eq(1800L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("채널을 다시 구독하면 끊긴 동안 놓친 갱신을 반영하도록 로컬 캐시를 비움")
+    void onChannelSubscribed_InvalidatesCache() {
+        // given
+        long epoch = System.currentTimeMillis() - 60_000;
+        given(valueOperations.get("revoked-before:1")).willReturn(null, String.valueOf(epoch));
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch - 10_000))).isFalse();
+
+        // when
+        revocationEpochStore.onChannelSubscribed(RevocationEpochStore.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        // then
+        assertThat(revocationEpochStore.isRevoked(accessToken(epoch - 10_000))).isTrue();
+    }
+}
@@ -1,29 +1,48 @@
 package com.myApp.auth.service;
 
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.dto.RefreshSession;
 import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.dto.MemberView;
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.event.MemberRoleChangedEvent;
 import com.myApp.auth.jwt.JwtTokenProvider;
-import com.myApp.auth.redis.RefreshToken;
-import com.myApp.auth.repository.RefreshTokenRepository;
+import com.myApp.auth.jwt.VerifiedToken;
+import com.myApp.auth.repository.MemberRepository;
+import com.myApp.auth.store.RefreshTokenRotation;
+import com.myApp.auth.store.TokenStore;
+import com.myApp.global.apiPayload.code.status.AuthErrorCode;
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
 import com.myApp.global.apiPayload.exception.GeneralException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Optional;
 
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -35,61 +54,381 @@ class AuthServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private TokenStore tokenStore;
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authService, "sessionRecheckInterval", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(authService, "legacySession", "dual-write");
+    }
+
+    // 권한(USER)과 권한 버전(3)이 들어 있는 Refresh Token
+    private VerifiedToken verifiedRefreshToken(String token) {
+        return refreshTokenBuilder(token)
+                .sessionRole(Role.USER)
+                .authVersion(3L)
+                .build();
+    }
+
+    // 권한 클레임을 넣기 전에 발급된 Refresh Token
+    private VerifiedToken legacyRefreshToken(String token) {
+        return refreshTokenBuilder(token).build();
+    }
+
+    private VerifiedToken.VerifiedTokenBuilder refreshTokenBuilder(String token) {
+        return VerifiedToken.builder()
+                .token(token)
+                .subject("1")
+                .memberId(1L)
+                .tokenId("jti")
+                .revocationId("jti")
+                .sessionId(SESSION_ID)
+                .expiration(System.currentTimeMillis() + 60_000)
+                .signature("signature");
+    }
+
+    private static final AuthPrincipal USER = new AuthPrincipal(1L, null, Role.USER);
+    private static final String SESSION_ID = "sid-1";
+    // 세션의 권한을 DB 에서 확인한 시각 (재확인 주기 안)
+    private static final long CHECKED_AT = System.currentTimeMillis() - 60_000;
+
+    private RefreshSession session(String token, Role role, long authVersion) {
+        return new RefreshSession(SESSION_ID, token, role, authVersion, CHECKED_AT);
+    }
+
+    // 토큰 클레임의 권한으로 만든 세션 (저장된 확인 시각 유지)
+    private RefreshSession nextSession(TokenDto issued, Role role, long authVersion) {
+        return new RefreshSession(SESSION_ID, issued.getRefreshToken(), role, authVersion,
+                RefreshSession.KEEP_CHECKED_AT);
+    }
+
+    // DB 에서 다시 조회한 권한으로 만든 세션 (확인 시각이 갱신됨)
+    private RefreshSession reloadedSession(TokenDto issued, Role role, long authVersion) {
+        return argThat(next -> next.token().equals(issued.getRefreshToken()) && next.role() == role
+                && next.version() == authVersion && next.checkedAt() > CHECKED_AT);
+    }
+
+    private TokenDto newTokenDto() {
+        return TokenDto.builder()
+                .accessToken("newAccess")
+                .refreshToken("newRefresh")
+                .build();
+    }
 
     @Test
-    @DisplayName("토큰 재발급 성공")
+    @DisplayName("토큰 재발급 성공 - Refresh Token 의 권한으로 발급하고 세션/DB 는 미리 조회하지 않음")
     void reissue_Success() {
         // given
         String refreshTokenStr = "validRefreshToken";
-        Authentication authentication = mock(Authentication.class);
-        given(authentication.getName()).willReturn("user1");
+        TokenDto newTokenDto = newTokenDto();
+
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"), eq(nextSession(newTokenDto, Role.USER, 3)),
+                eq(newTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
+
+        // when
+        TokenDto result = authService.reissue(refreshTokenStr);
+
+        // then
+        assertThat(result.getAccessToken()).isEqualTo("newAccess");
+        verify(tokenStore, never()).findRefreshSession(any(), any());
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 로그아웃/만료된 세션이면 DB 를 조회하지 않고 거절")
+    void reissue_SessionNotFound() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto newTokenDto = newTokenDto();
 
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .id("user1")
-                .token(refreshTokenStr)
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto);
+        given(tokenStore.rotateRefreshToken(any(), any(), any(), any(), anyLong()))
+                .willReturn(RefreshTokenRotation.NOT_FOUND);
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(refreshTokenStr))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        verifyNoInteractions(customUserDetailsService);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 토큰을 발급한 뒤 권한이 바뀌면 DB 의 최신 권한으로 다시 발급")
+    void reissue_RoleChangedAfterIssue() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto staleTokenDto = newTokenDto();
+        TokenDto adminTokenDto = TokenDto.builder()
+                .accessToken("adminAccess")
+                .refreshToken("adminRefresh")
                 .build();
+        Member member = Member.builder().id(1L).email("user1@example.com").role(Role.ADMIN).authVersion(4).build();
 
-        TokenDto newTokenDto = TokenDto.builder()
-                .accessToken("newAccess")
-                .refreshToken("newRefresh")
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        // AuthPrincipal 은 subject 로만 비교하므로 권한 버전으로 구분
+        given(jwtTokenProvider.generateTokenDto(any(AuthPrincipal.class), eq(SESSION_ID), eq(3L)))
+                .willReturn(staleTokenDto);
+        given(jwtTokenProvider.generateTokenDto(any(AuthPrincipal.class), eq(SESSION_ID), eq(4L)))
+                .willReturn(adminTokenDto);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"),
+                eq(nextSession(staleTokenDto, Role.USER, 3)), eq(staleTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.STALE);
+        given(customUserDetailsService.loadMemberById(1L)).willReturn(member);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"),
+                reloadedSession(adminTokenDto, Role.ADMIN, 4), eq(adminTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
+
+        // when
+        TokenDto result = authService.reissue(refreshTokenStr);
+
+        // then
+        assertThat(result.getAccessToken()).isEqualTo("adminAccess");
+        verify(jwtTokenProvider)
+                .generateTokenDto(argThat(principal -> principal.getRole() == Role.ADMIN), eq(SESSION_ID), eq(4L));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - DB 에서 확인한 지 오래된 세션이면 DB 의 권한/버전으로 다시 발급")
+    void reissue_RecheckAfterInterval() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto staleTokenDto = newTokenDto();
+        TokenDto adminTokenDto = TokenDto.builder()
+                .accessToken("adminAccess")
+                .refreshToken("adminRefresh")
                 .build();
+        // 권한 변경 이벤트 반영에 실패하여 세션에는 이전 권한 버전이 남아 있음
+        Member member = Member.builder().id(1L).email("user1@example.com").role(Role.ADMIN).authVersion(4).build();
 
-        given(jwtTokenProvider.validateToken(refreshTokenStr)).willReturn(true);
-        given(jwtTokenProvider.getAuthentication(refreshTokenStr)).willReturn(authentication);
-        given(refreshTokenRepository.findById("user1")).willReturn(Optional.of(refreshTokenEntity));
-        given(jwtTokenProvider.generateTokenDto(authentication)).willReturn(newTokenDto);
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(any(AuthPrincipal.class), eq(SESSION_ID), eq(3L)))
+                .willReturn(staleTokenDto);
+        given(jwtTokenProvider.generateTokenDto(any(AuthPrincipal.class), eq(SESSION_ID), eq(4L)))
+                .willReturn(adminTokenDto);
+        long beforeReissue = System.currentTimeMillis();
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"),
+                eq(nextSession(staleTokenDto, Role.USER, 3)), eq(staleTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.RECHECK);
+        given(customUserDetailsService.loadMemberById(1L)).willReturn(member);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"),
+                reloadedSession(adminTokenDto, Role.ADMIN, 4), eq(adminTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
+
+        // when
+        TokenDto result = authService.reissue(refreshTokenStr);
+
+        // then
+        assertThat(result.getAccessToken()).isEqualTo("adminAccess");
+        // 재확인 기준 시각은 재발급 시각에서 session-recheck-interval 만큼 이전
+        long interval = Duration.ofMinutes(5).toMillis();
+        long afterReissue = System.currentTimeMillis();
+        verify(tokenStore).rotateRefreshToken(eq(verifiedToken), eq("1"),
+                eq(nextSession(staleTokenDto, Role.USER, 3)), eq(staleTokenDto),
+                longThat(recheckBefore -> recheckBefore >= beforeReissue - interval
+                        && recheckBefore <= afterReissue - interval));
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 탈퇴한 회원이면 세션을 삭제하고 거절")
+    void reissue_DeletedMember() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto());
+        given(tokenStore.rotateRefreshToken(any(), any(), any(), any(), anyLong()))
+                .willReturn(RefreshTokenRotation.RECHECK);
+        given(customUserDetailsService.loadMemberById(1L))
+                .willThrow(new GeneralException(GeneralErrorCode.USER_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(refreshTokenStr))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        verify(tokenStore).deleteRefreshSession("1", SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 - 권한 클레임이 없는 이전 토큰은 세션에 저장된 권한으로 발급")
+    void reissue_LegacyToken() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto newTokenDto = newTokenDto();
+
+        VerifiedToken verifiedToken = legacyRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(tokenStore.findRefreshSession("1", SESSION_ID))
+                .willReturn(Optional.of(session(refreshTokenStr, Role.USER, 3)));
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"),
+                eq(new RefreshSession(SESSION_ID, "newRefresh", Role.USER, 3, CHECKED_AT)), eq(newTokenDto),
+                anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
 
         // when
         TokenDto result = authService.reissue(refreshTokenStr);
 
         // then
         assertThat(result.getAccessToken()).isEqualTo("newAccess");
-        assertThat(refreshTokenEntity.getToken()).isEqualTo("newRefresh");
+        verifyNoInteractions(customUserDetailsService);
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 - 리프레시 토큰 불일치")
-    void reissue_Mismatch() {
+    @DisplayName("토큰 재발급 - 권한이 없는 이전 세션이면 DB 에서 권한을 조회하여 세션에 저장")
+    void reissue_LegacySessionWithoutRole() {
         // given
         String refreshTokenStr = "validRefreshToken";
-        Authentication authentication = mock(Authentication.class);
-        given(authentication.getName()).willReturn("user1");
+        TokenDto newTokenDto = newTokenDto();
+        Member member = Member.builder().id(1L).email("user1@example.com").role(Role.USER).authVersion(2).build();
+        AuthPrincipal principal = AuthPrincipal.of(member);
+
+        VerifiedToken verifiedToken = legacyRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(tokenStore.findRefreshSession("1", SESSION_ID))
+                .willReturn(Optional.of(session(refreshTokenStr, null, 0)));
+        given(customUserDetailsService.loadMemberById(1L)).willReturn(member);
+        given(jwtTokenProvider.generateTokenDto(principal, SESSION_ID, 2)).willReturn(newTokenDto);
+        given(tokenStore.rotateRefreshToken(
+                eq(verifiedToken), eq("1"), reloadedSession(newTokenDto, Role.USER, 2), eq(newTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.ROTATED);
+
+        // when
+        TokenDto result = authService.reissue(refreshTokenStr);
 
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .id("user1")
-                .token("differentToken")
+        // then
+        assertThat(result.getAccessToken()).isEqualTo("newAccess");
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이전 토큰의 세션이 없으면 DB 를 조회하지 않고 거절")
+    void reissue_LegacySessionNotFound() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        VerifiedToken verifiedToken = legacyRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(tokenStore.findRefreshSession("1", SESSION_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissue(refreshTokenStr))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code")
+                .isEqualTo(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        verifyNoInteractions(customUserDetailsService);
+        verify(tokenStore, never()).rotateRefreshToken(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("동시 재발급 - 이미 교체된 토큰이어도 유예 기간 안이면 같은 토큰 쌍 반환")
+    void reissue_ConcurrentWithinGracePeriod() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto newTokenDto = newTokenDto();
+        TokenDto winnerTokenDto = TokenDto.builder()
+                .accessToken("winnerAccess")
+                .refreshToken("winnerRefresh")
                 .build();
 
-        given(jwtTokenProvider.validateToken(refreshTokenStr)).willReturn(true);
-        given(jwtTokenProvider.getAuthentication(refreshTokenStr)).willReturn(authentication);
-        given(refreshTokenRepository.findById("user1")).willReturn(Optional.of(refreshTokenEntity));
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto);
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"), eq(nextSession(newTokenDto, Role.USER, 3)),
+                eq(newTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.MISMATCH);
+        given(tokenStore.findReissued(verifiedToken)).willReturn(Optional.of(winnerTokenDto));
+
+        // when
+        TokenDto result = authService.reissue(refreshTokenStr);
+
+        // then
+        assertThat(result.getRefreshToken()).isEqualTo("winnerRefresh");
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 리프레시 토큰 불일치")
+    void reissue_Mismatch() {
+        // given
+        String refreshTokenStr = "validRefreshToken";
+        TokenDto newTokenDto = newTokenDto();
+
+        VerifiedToken verifiedToken = verifiedRefreshToken(refreshTokenStr);
+        given(jwtTokenProvider.verify(refreshTokenStr)).willReturn(verifiedToken);
+        given(jwtTokenProvider.generateTokenDto(USER, SESSION_ID, 3)).willReturn(newTokenDto);
+        // 저장된 토큰이 다르면 (이미 교체됨) 교체되지 않음
+        given(tokenStore.rotateRefreshToken(eq(verifiedToken), eq("1"), eq(nextSession(newTokenDto, Role.USER, 3)),
+                eq(newTokenDto), anyLong()))
+                .willReturn(RefreshTokenRotation.MISMATCH);
+        given(tokenStore.findReissued(verifiedToken)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> authService.reissue(refreshTokenStr))
                 .isInstanceOf(GeneralException.class);
     }
+
+    @Test
+    @DisplayName("권한 변경 이벤트는 세션의 권한을 갱신")
+    void onMemberRoleChanged() {
+        authService.onMemberRoleChanged(new MemberRoleChangedEvent(1L, Role.ADMIN, 4));
+
+        verify(tokenStore).updateRefreshSession("1", Role.ADMIN, 4);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 전환 기간(dual-write)에는 email 키로 저장된 이전 형식 세션도 삭제")
+    void logout_DeletesLegacySession() {
+        // given
+        VerifiedToken accessToken = VerifiedToken.builder()
+                .subject("1")
+                .memberId(1L)
+                .sessionId(SESSION_ID)
+                .revocationId("jti")
+                .expiration(System.currentTimeMillis() + 60_000)
+                .build();
+        given(memberRepository.findViewById(1L))
+                .willReturn(Optional.of(new MemberView(1L, "user1", "user1@example.com", Role.USER, "google")));
+
+        // when
+        authService.logout(accessToken, null);
+
+        // then
+        verify(tokenStore).logout(accessToken);
+        verify(tokenStore).deleteRefreshSession("user1@example.com", null);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 전환이 끝나면(migrate) DB 조회 없이 스크립트 한 번으로 처리")
+    void logout_AfterMigration() {
+        // given
+        ReflectionTestUtils.setField(authService, "legacySession", "migrate");
+        VerifiedToken accessToken = VerifiedToken.builder()
+                .subject("1")
+                .memberId(1L)
+                .sessionId(SESSION_ID)
+                .revocationId("jti")
+                .expiration(System.currentTimeMillis() + 60_000)
+                .build();
+
+        // when
+        authService.logout(accessToken, null);
+
+        // then
+        verify(tokenStore).logout(accessToken);
+        verifyNoInteractions(memberRepository);
+        verify(tokenStore, never()).deleteRefreshSession(any(), any());
+    }
 }
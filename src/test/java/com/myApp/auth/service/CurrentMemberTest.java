@@ -0,0 +1,101 @@
+package com.myApp.auth.service;
+
+import com.myApp.auth.dto.AuthPrincipal;
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.repository.MemberRepository;
+import com.myApp.global.apiPayload.exception.GeneralException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentMemberTest {
+
+    @InjectMocks
+    private CurrentMember currentMember;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(AuthPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    private Member member() {
+        return Member.builder()
+                .id(1L)
+                .name("Test User")
+                .email("test@example.com")
+                .role(Role.USER)
+                .socialId("123456789")
+                .socialType("google")
+                .build();
+    }
+
+    @Test
+    @DisplayName("요청 안에서 여러 번 호출해도 회원은 PK 로 한 번만 조회")
+    void get_LoadsOnce() {
+        // given
+        authenticate(new AuthPrincipal(1L, null, Role.USER));
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member()));
+
+        // when
+        Member first = currentMember.get();
+        Member second = currentMember.get();
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("토큰에 member id 가 있으면 id 조회 시 DB 를 조회하지 않음")
+    void getId_WithoutLookup() {
+        authenticate(new AuthPrincipal(1L, null, Role.USER));
+
+        assertThat(currentMember.getId()).isEqualTo(1L);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("이전 형식 토큰은 email 로 조회")
+    void get_LegacyToken() {
+        authenticate(AuthPrincipal.legacy("test@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member()));
+
+        assertThat(currentMember.getId()).isEqualTo(1L);
+        assertThat(currentMember.get().getEmail()).isEqualTo("test@example.com");
+        verify(memberRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 예외 발생")
+    void get_Unauthenticated() {
+        assertThatThrownBy(() -> currentMember.get()).isInstanceOf(GeneralException.class);
+        verifyNoInteractions(memberRepository);
+    }
+}
@@ -1,6 +1,8 @@
 package com.myApp.auth.service;
 
 import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.event.MemberProfileChangedEvent;
 import com.myApp.auth.repository.MemberRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -16,15 +19,19 @@ import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class CustomOAuth2MemberServiceTest {
@@ -38,12 +45,10 @@ class CustomOAuth2MemberServiceTest {
     @Mock
     private OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
 
-    @Test
-    @DisplayName("소셜 로그인 시 기존 회원이 없으면 새로 생성한다.")
-    void loadUser_NewUser() {
-        // given
-        customOAuth2UserService.setDelegate(delegate); // Setter Injection
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
+    private OAuth2UserRequest googleUserRequest() {
         ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("google")
                 .clientId("clientId")
                 .clientSecret("clientSecret")
@@ -57,7 +62,16 @@ class CustomOAuth2MemberServiceTest {
                 .clientName("Google")
                 .build();
 
-        OAuth2UserRequest userRequest = new OAuth2UserRequest(clientRegistration, "accessToken");
+        return new OAuth2UserRequest(clientRegistration, "accessToken");
+    }
+
+    @Test
+    @DisplayName("소셜 로그인 시 기존 회원이 없으면 새로 생성한다.")
+    void loadUser_NewUser() {
+        // given
+        customOAuth2UserService.setDelegate(delegate); // Setter Injection
+
+        OAuth2UserRequest userRequest = googleUserRequest();
 
         Map<String, Object> attributes = Map.of(
                 "sub", "123456789",
@@ -69,15 +83,102 @@ class CustomOAuth2MemberServiceTest {
                 attributes,
                 "sub");
 
+        Member member = member("Test User");
+
         given(delegate.loadUser(any(OAuth2UserRequest.class))).willReturn(oAuth2User);
+        given(memberRepository.findBySocialTypeAndSocialId("google", "123456789"))
+                .willReturn(Optional.empty(), Optional.of(member));
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.empty());
-        given(memberRepository.save(any(Member.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         OAuth2User result = customOAuth2UserService.loadUser(userRequest);
 
         // then
         assertThat(result).isNotNull();
-        verify(memberRepository).save(any(Member.class));
+        assertThat((Long) result.getAttribute(CustomOAuth2UserService.MEMBER_ID_ATTRIBUTE)).isEqualTo(1L);
+        verify(memberRepository).upsertSocialMember(
+                eq("google"), eq("123456789"), eq("test@example.com"), eq("Test User"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("기존 회원의 이름이 바뀌면 프로필 변경 이벤트를 발행한다.")
+    void loadUser_ExistingUserRenamed() {
+        // given
+        customOAuth2UserService.setDelegate(delegate);
+
+        OAuth2User oAuth2User = new DefaultOAuth2User(
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
+                Map.of("sub", "123456789", "name", "New Name", "email", "test@example.com"),
+                "sub");
+        Member member = member("Old Name");
+
+        given(delegate.loadUser(any(OAuth2UserRequest.class))).willReturn(oAuth2User);
+        given(memberRepository.findBySocialTypeAndSocialId("google", "123456789")).willReturn(Optional.of(member));
+
+        // when
+        customOAuth2UserService.loadUser(googleUserRequest());
+
+        // then
+        verify(memberRepository).upsertSocialMember(
+                eq("google"), eq("123456789"), eq("test@example.com"), eq("New Name"), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new MemberProfileChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("기존 회원의 정보가 그대로면 DB 에 쓰지 않는다.")
+    void loadUser_ExistingUserUnchanged() {
+        // given
+        customOAuth2UserService.setDelegate(delegate);
+
+        OAuth2User oAuth2User = new DefaultOAuth2User(
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
+                Map.of("sub", "123456789", "name", "Test User", "email", "test@example.com"),
+                "sub");
+
+        given(delegate.loadUser(any(OAuth2UserRequest.class))).willReturn(oAuth2User);
+        given(memberRepository.findBySocialTypeAndSocialId("google", "123456789"))
+                .willReturn(Optional.of(member("Test User")));
+
+        // when
+        customOAuth2UserService.loadUser(googleUserRequest());
+
+        // then
+        verify(memberRepository, never()).upsertSocialMember(any(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("email 로 찾은 다른 제공자의 회원이면 그 회원으로 로그인하고 이름은 바꾸지 않는다.")
+    void loadUser_OtherProviderSameEmail() {
+        // given
+        customOAuth2UserService.setDelegate(delegate);
+
+        OAuth2User oAuth2User = new DefaultOAuth2User(
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
+                Map.of("sub", "987654321", "name", "Other Name", "email", "test@example.com"),
+                "sub");
+
+        given(delegate.loadUser(any(OAuth2UserRequest.class))).willReturn(oAuth2User);
+        given(memberRepository.findBySocialTypeAndSocialId("google", "987654321")).willReturn(Optional.empty());
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member("Test User")));
+
+        // when
+        OAuth2User result = customOAuth2UserService.loadUser(googleUserRequest());
+
+        // then
+        assertThat((Long) result.getAttribute(CustomOAuth2UserService.MEMBER_ID_ATTRIBUTE)).isEqualTo(1L);
+        verify(memberRepository, never()).upsertSocialMember(any(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Member member(String name) {
+        return Member.builder()
+                .id(1L)
+                .name(name)
+                .email("test@example.com")
+                .role(Role.USER)
+                .socialId("123456789")
+                .socialType("google")
+                .build();
     }
 }
@@ -0,0 +1,221 @@
+package com.myApp.auth.store;
+
+import com.myApp.auth.dto.RefreshSession;
+import com.myApp.auth.dto.TokenDto;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.jwt.VerifiedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenStoreTest {
+
+    private InMemoryTokenStore tokenStore;
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+    }
+
+    private VerifiedToken accessToken(String revocationId, long issuedAt, long expiration) {
+        return VerifiedToken.builder()
+                .subject("1")
+                .memberId(1L)
+                .revocationId(revocationId)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 저장/조회/삭제")
+    void refreshToken() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+
+        tokenStore.saveRefreshSession("1", session("sid-1", "refresh", Role.USER, 0));
+        assertThat(tokenStore.findRefreshToken("1", "sid-1")).contains("refresh");
+
+        tokenStore.deleteRefreshSession("1", "sid-1");
+        assertThat(tokenStore.findRefreshToken("1", "sid-1")).isEmpty();
+    }
+
+    private RefreshSession session(String sessionId, String token, Role role, long version) {
+        return new RefreshSession(sessionId, token, role, version);
+    }
+
+    private VerifiedToken refreshToken(String subject, String sessionId, String token) {
+        return VerifiedToken.builder()
+                .token(token)
+                .subject(subject)
+                .sessionId(sessionId)
+                .revocationId("id-" + token)
+                .build();
+    }
+
+    private TokenDto tokenPair(String refreshToken) {
+        return TokenDto.builder()
+                .accessToken("access-for-" + refreshToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장된 Refresh Token 과 같을 때만 교체되고, 교체된 토큰으로는 다시 교체할 수 없음")
+    void rotateRefreshToken() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        tokenStore.saveRefreshSession("1", session("sid-1", "refresh-1", Role.USER, 0));
+
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "sid-1", "refresh-1"), "1",
+                session("sid-1", "refresh-2", Role.USER, 0), tokenPair("refresh-2"), 0))
+                .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "sid-1", "refresh-1"), "1",
+                session("sid-1", "refresh-3", Role.USER, 0), tokenPair("refresh-3"), 0))
+                .isEqualTo(RefreshTokenRotation.MISMATCH);
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("2", "sid-1", "refresh-1"), "2",
+                session("sid-1", "refresh-3", Role.USER, 0), tokenPair("refresh-3"), 0))
+                .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(tokenStore.findRefreshToken("1", "sid-1")).contains("refresh-2");
+        // 교체된 토큰으로 들어온 동시 요청은 먼저 발급된 토큰 쌍을 받음
+        assertThat(tokenStore.findReissued(refreshToken("1", "sid-1", "refresh-1")))
+                .get()
+                .extracting(TokenDto::getRefreshToken)
+                .isEqualTo("refresh-2");
+    }
+
+    @Test
+    @DisplayName("기기마다 세션이 따로 유지되고, 최대 수를 넘으면 가장 오래 사용하지 않은 세션부터 삭제")
+    void refreshSessionPerDevice() throws InterruptedException {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 2, "token");
+
+        tokenStore.saveRefreshSession("1", session("phone", "refresh-phone", Role.USER, 0));
+        Thread.sleep(5);
+        tokenStore.saveRefreshSession("1", session("laptop", "refresh-laptop", Role.USER, 0));
+        Thread.sleep(5);
+        // phone 에서 재발급하면 laptop 이 가장 오래 사용하지 않은 세션이 됨
+        tokenStore.rotateRefreshToken(refreshToken("1", "phone", "refresh-phone"), "1",
+                session("phone", "refresh-phone-2", Role.USER, 0), tokenPair("refresh-phone-2"), 0);
+        Thread.sleep(5);
+        tokenStore.saveRefreshSession("1", session("tablet", "refresh-tablet", Role.USER, 0));
+
+        assertThat(tokenStore.findRefreshToken("1", "phone")).contains("refresh-phone-2");
+        assertThat(tokenStore.findRefreshToken("1", "laptop")).isEmpty();
+        assertThat(tokenStore.findRefreshToken("1", "tablet")).contains("refresh-tablet");
+
+        // 로그아웃은 해당 기기의 세션만 삭제
+        tokenStore.logout(VerifiedToken.builder().subject("1").sessionId("tablet").revocationId("access-tablet")
+                .expiration(System.currentTimeMillis() + 60_000).build());
+        assertThat(tokenStore.findRefreshToken("1", "tablet")).isEmpty();
+        assertThat(tokenStore.findRefreshToken("1", "phone")).contains("refresh-phone-2");
+    }
+
+    @Test
+    @DisplayName("세션 ID 가 없는 이전 세션은 재발급 시 기기별 세션으로 옮겨짐")
+    void rotateRefreshToken_SessionWithoutId() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        tokenStore.saveRefreshSession("1", session(null, "refresh-1", null, 0));
+
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", null, "refresh-1"), "1",
+                session("sid-new", "refresh-2", Role.USER, 0), tokenPair("refresh-2"), 0))
+                .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(tokenStore.findRefreshSession("1", null)).isEmpty();
+        assertThat(tokenStore.findRefreshToken("1", "sid-new")).contains("refresh-2");
+    }
+
+    @Test
+    @DisplayName("토큰 클레임의 권한으로 교체하면 저장된 확인 시각을 유지하고, 확인한 지 오래된 세션은 교체하지 않음")
+    void rotateRefreshToken_KeepCheckedAt() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        tokenStore.saveRefreshSession("1", new RefreshSession("sid-1", "refresh-1", Role.USER, 0, 1_000));
+        RefreshSession next = new RefreshSession("sid-1", "refresh-2", Role.USER, 0, RefreshSession.KEEP_CHECKED_AT);
+
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "sid-1", "refresh-1"), "1",
+                next, tokenPair("refresh-2"), 2_000))
+                .isEqualTo(RefreshTokenRotation.RECHECK);
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "sid-1", "refresh-1"), "1",
+                next, tokenPair("refresh-2"), 500))
+                .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(tokenStore.findRefreshSession("1", "sid-1"))
+                .contains(new RefreshSession("sid-1", "refresh-2", Role.USER, 0, 1_000));
+    }
+
+    @Test
+    @DisplayName("권한 변경은 더 새로운 버전일 때만 모든 기기의 세션에 반영되고, 이전 버전으로 만든 토큰으로는 교체되지 않음")
+    void updateRefreshSession() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        tokenStore.saveRefreshSession("1", session("phone", "refresh-1", Role.USER, 0));
+        tokenStore.saveRefreshSession("1", session("laptop", "refresh-laptop", Role.USER, 0));
+
+        tokenStore.updateRefreshSession("1", Role.ADMIN, 1);
+        tokenStore.updateRefreshSession("1", Role.USER, 1); // 늦게 도착한 같은 버전은 무시
+        assertThat(tokenStore.findRefreshSession("1", "phone"))
+                .contains(session("phone", "refresh-1", Role.ADMIN, 1));
+        assertThat(tokenStore.findRefreshSession("1", "laptop"))
+                .contains(session("laptop", "refresh-laptop", Role.ADMIN, 1));
+
+        // 권한 변경 전에 읽은 세션(버전 0)으로 만든 토큰
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "phone", "refresh-1"), "1",
+                session("phone", "refresh-2", Role.USER, 0), tokenPair("refresh-2"), 0))
+                .isEqualTo(RefreshTokenRotation.STALE);
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "phone", "refresh-1"), "1",
+                session("phone", "refresh-2", Role.ADMIN, 1), tokenPair("refresh-2"), 0))
+                .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(tokenStore.findRefreshSession("1", "phone"))
+                .contains(session("phone", "refresh-2", Role.ADMIN, 1));
+    }
+
+    @Test
+    @DisplayName("token 방식은 로그아웃한 토큰만 무효화하고, 토큰 만료 후에는 엔트리도 사라짐")
+    void revoke_TokenStrategy() throws InterruptedException {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "token");
+        long now = System.currentTimeMillis();
+        VerifiedToken loggedOut = accessToken("jti-1", now, now + 50);
+        VerifiedToken other = accessToken("jti-2", now, now + 60_000);
+
+        tokenStore.revoke(loggedOut);
+
+        assertThat(tokenStore.isRevoked(loggedOut)).isTrue();
+        assertThat(tokenStore.isRevoked(other)).isFalse();
+
+        Thread.sleep(100);
+        assertThat(tokenStore.isRevoked(loggedOut)).isFalse();
+    }
+
+    @Test
+    @DisplayName("epoch 방식은 로그아웃 이전에 발급된 같은 회원의 토큰을 모두 무효화")
+    void revoke_EpochStrategy() {
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "epoch");
+        long now = System.currentTimeMillis();
+        VerifiedToken loggedOut = accessToken("jti-1", now - 10_000, now + 60_000);
+        VerifiedToken otherDevice = accessToken("jti-2", now - 20_000, now + 60_000);
+
+        tokenStore.revoke(loggedOut);
+
+        assertThat(tokenStore.isRevoked(loggedOut)).isTrue();
+        assertThat(tokenStore.isRevoked(otherDevice)).isTrue();
+        assertThat(tokenStore.isRevoked(accessToken("jti-3", now + 2_000, now + 60_000))).isFalse();
+    }
+
+    @Test
+    @DisplayName("epoch 방식 로그아웃은 다른 기기의 Refresh Token 세션도 삭제하여 재발급할 수 없음")
+    void logout_EpochStrategy() {
+        // given
+        tokenStore = new InMemoryTokenStore(1800, 1209600, 5, 5, "epoch");
+        long now = System.currentTimeMillis();
+        tokenStore.saveRefreshSession("1", session("phone", "refresh-phone", Role.USER, 0));
+        tokenStore.saveRefreshSession("1", session("laptop", "refresh-laptop", Role.USER, 0));
+        tokenStore.saveRefreshSession("2", session("phone", "refresh-other", Role.USER, 0));
+
+        // when
+        tokenStore.logout(VerifiedToken.builder().subject("1").sessionId("phone").revocationId("access-phone")
+                .issuedAt(now - 1_000).expiration(now + 60_000).build());
+
+        // then
+        assertThat(tokenStore.findRefreshToken("1", "phone")).isEmpty();
+        assertThat(tokenStore.rotateRefreshToken(refreshToken("1", "laptop", "refresh-laptop"), "1",
+                session("laptop", "refresh-laptop-2", Role.USER, 0), tokenPair("refresh-laptop-2"), 0))
+                .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(tokenStore.findRefreshToken("2", "phone")).contains("refresh-other");
+    }
+}
@@ -0,0 +1,142 @@
+package com.myApp.domain.users.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.event.MemberProfileChangedEvent;
+import com.myApp.domain.users.dto.UserResponseDto;
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
+import com.myApp.global.apiPayload.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class UserProfileCacheTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    // Redis 단계 없이 로컬 캐시만 사용 (token-store=memory)
+    private UserProfileCache localCache(boolean enabled) {
+        return new UserProfileCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                enabled, 100, Duration.ofMinutes(1), Duration.ofMinutes(10), "memory");
+    }
+
+    private UserResponseDto profile(Long id, String name) {
+        return UserResponseDto.builder()
+                .id(id)
+                .name(name)
+                .email("user" + id + "@example.com")
+                .role(Role.USER)
+                .socialType("google")
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 회원은 한 번만 DB 에서 읽고, 프로필이 바뀌면 다시 읽음")
+    void getById() {
+        UserProfileCache cache = localCache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, UserResponseDto> loader = id -> profile(id, "name-" + loads.incrementAndGet());
+
+        assertThat(cache.getById(1L, loader).getName()).isEqualTo("name-1");
+        assertThat(cache.getById(1L, loader).getName()).isEqualTo("name-1");
+
+        cache.onMemberProfileChanged(new MemberProfileChangedEvent(1L));
+        assertThat(cache.getById(1L, loader).getName()).isEqualTo("name-2");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 회원 id 를 찾은 뒤 id 캐시를 함께 사용")
+    void getByEmail() {
+        UserProfileCache cache = localCache(true);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserResponseDto> emailLoader = email -> {
+            loads.incrementAndGet();
+            return profile(1L, "name");
+        };
+        Function<Long, UserResponseDto> idLoader = id -> {
+            loads.incrementAndGet();
+            return profile(id, "name");
+        };
+
+        cache.getByEmail("user1@example.com", emailLoader); // id 확인
+        cache.getByEmail("user1@example.com", emailLoader); // id 로 조회하여 캐시에 채움
+        cache.getByEmail("user1@example.com", emailLoader);
+        cache.getById(1L, idLoader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("한 회원을 읽는 동안 다른 회원의 조회는 기다리지 않고, 같은 회원의 조회는 그 결과를 받음")
+    void getById_LoadsOutsideLock() throws Exception {
+        UserProfileCache cache = localCache(true);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, UserResponseDto> slowLoader = id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return profile(id, "slow");
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<UserResponseDto> first = executor.submit(() -> cache.getById(1L, slowLoader));
+            assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<UserResponseDto> second = executor.submit(() -> cache.getById(1L, slowLoader));
+
+            assertThat(executor.submit(() -> cache.getById(2L, id -> profile(id, "other"))).get(1, TimeUnit.SECONDS)
+                    .getName()).isEqualTo("other");
+
+            release.countDown();
+            assertThat(first.get(1, TimeUnit.SECONDS).getName()).isEqualTo("slow");
+            assertThat(second.get(1, TimeUnit.SECONDS).getName()).isEqualTo("slow");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 같은 예외를 던지고 캐시에 남기지 않음")
+    void getById_FailureNotCached() {
+        UserProfileCache cache = localCache(true);
+
+        assertThatThrownBy(() -> cache.getById(1L, id -> {
+            throw new GeneralException(GeneralErrorCode.USER_NOT_FOUND);
+        })).isInstanceOf(GeneralException.class);
+
+        assertThat(cache.getById(1L, id -> profile(id, "name")).getName()).isEqualTo("name");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 DB 에서 읽음")
+    void disabled() {
+        UserProfileCache cache = localCache(false);
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, UserResponseDto> loader = id -> profile(id, "name-" + loads.incrementAndGet());
+
+        cache.getById(1L, loader);
+        cache.getById(1L, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.myApp.domain.users.service;
+
+import com.myApp.auth.entity.Member;
+import com.myApp.auth.entity.Role;
+import com.myApp.auth.event.MemberRoleChangedEvent;
+import com.myApp.auth.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @InjectMocks
+    private UserService userService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    private Member member(Role role) {
+        return Member.builder()
+                .id(1L)
+                .name("Test User")
+                .email("test@example.com")
+                .role(role)
+                .socialId("123456789")
+                .socialType("google")
+                .build();
+    }
+
+    @Test
+    @DisplayName("권한 변경 시 권한 버전이 올라가고 세션/캐시 갱신 이벤트를 발행")
+    void changeRole_PublishesEvent() {
+        // given
+        Member member = member(Role.USER);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+        // when
+        userService.changeRole(1L, Role.ADMIN);
+
+        // then
+        assertThat(member.getAuthVersion()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new MemberRoleChangedEvent(1L, Role.ADMIN, 1));
+    }
+
+    @Test
+    @DisplayName("같은 권한으로 변경하면 버전을 올리지 않고 이벤트도 발행하지 않음")
+    void changeRole_SameRole() {
+        // given
+        Member member = member(Role.USER);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+
+        // when
+        userService.changeRole(1L, Role.USER);
+
+        // then
+        assertThat(member.getAuthVersion()).isZero();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
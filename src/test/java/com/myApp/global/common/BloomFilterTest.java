@@ -0,0 +1,33 @@
+package com.myApp.global.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 포함된 것으로 판단")
+    void mightContain_NoFalseNegative() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i));
+
+        assertThat(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 키의 오탐률은 설정값 근처로 유지")
+    void mightContain_FalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+}
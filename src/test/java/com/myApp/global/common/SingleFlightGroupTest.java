@@ -0,0 +1,97 @@
+package com.myApp.global.common;
+
+import com.myApp.global.apiPayload.code.status.GeneralErrorCode;
+import com.myApp.global.apiPayload.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightGroupTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlightGroup group = new SingleFlightGroup();
+
+    // leader 의 조회가 끝나지 않은 상태에서 나머지 호출이 모두 들어오도록 함
+    private List<Future<Object>> callConcurrently(ExecutorService executor, SingleFlightGroup.Loader loader,
+            AtomicInteger shared) throws InterruptedException {
+        SingleFlightGroup.Listener listener = new SingleFlightGroup.Listener() {
+            @Override
+            public void onShared() {
+                shared.incrementAndGet();
+            }
+        };
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return group.execute("member:1", loader, listener);
+                } catch (Throwable e) {
+                    throw new Exception(e);
+                }
+            }));
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 한 번만 조회하고 결과를 함께 받음")
+    void execute_SharesResult() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        List<Future<Object>> results = callConcurrently(executor, () -> {
+            loads.incrementAndGet();
+            release.await();
+            return "profile";
+        }, shared);
+        while (shared.get() < CALLERS - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("profile");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(group.inFlight()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회 중 발생한 예외도 함께 받고, 이후 호출은 다시 조회함")
+    void execute_SharesException() throws Throwable {
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        List<Future<Object>> results = callConcurrently(executor, () -> {
+            release.await();
+            throw new GeneralException(GeneralErrorCode.USER_NOT_FOUND);
+        }, shared);
+        while (shared.get() < CALLERS - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                    .hasRootCauseInstanceOf(GeneralException.class);
+        }
+        assertThat(group.execute("member:1", () -> "retried")).isEqualTo("retried");
+        executor.shutdown();
+    }
+}
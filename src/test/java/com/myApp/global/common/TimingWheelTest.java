@@ -0,0 +1,63 @@
+package com.myApp.global.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private final TimingWheel timingWheel = new TimingWheel("timing-wheel-test", 10);
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    @DisplayName("예약한 작업은 만료 시각 이후 실행되고 대기 목록에서 빠짐")
+    void schedule_RunsAfterDeadline() throws InterruptedException {
+        // given
+        CountDownLatch executed = new CountDownLatch(1);
+
+        // when
+        timingWheel.schedule(System.currentTimeMillis() + 30, executed::countDown);
+
+        // then
+        assertThat(executed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timingWheel.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 즉시 대기 목록에서 빠지고 실행되지 않음")
+    void cancel_RemovesImmediately() throws InterruptedException {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+        long deadline = System.currentTimeMillis() + 30;
+        TimingWheel.Timeout first = timingWheel.schedule(deadline, executed::incrementAndGet);
+        TimingWheel.Timeout second = timingWheel.schedule(deadline, executed::incrementAndGet);
+        // 하위 휠로 옮겨지기 전의 먼 예약
+        TimingWheel.Timeout distant = timingWheel.schedule(System.currentTimeMillis() + 60_000,
+                executed::incrementAndGet);
+
+        // when
+        first.cancel();
+        distant.cancel();
+        distant.cancel();
+
+        // then
+        assertThat(timingWheel.pending()).isEqualTo(1);
+        Thread.sleep(200);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(timingWheel.pending()).isZero();
+
+        // 이미 실행된 예약을 취소해도 영향 없음
+        second.cancel();
+        assertThat(timingWheel.pending()).isZero();
+    }
+}